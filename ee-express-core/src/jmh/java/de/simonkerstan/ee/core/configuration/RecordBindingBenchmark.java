@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2025 Simon Kerstan
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.simonkerstan.ee.core.configuration;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Instantiation of configuration records: reflective instantiation of {@link RecordBinding} compared with a canonical
+ * constructor compiled into a spread method handle.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class RecordBindingBenchmark {
+
+    private RecordBinding recordBinding;
+    private MethodHandle factory;
+    private Object[] parameters;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        final var constructor = Server.class.getConstructor(String.class, int.class);
+        this.recordBinding = RecordBinding.of(Server.class);
+        this.factory = MethodHandles.publicLookup()
+                .unreflectConstructor(constructor)
+                .asSpreader(Object[].class, constructor.getParameterCount())
+                .asType(MethodType.methodType(Object.class, Object[].class));
+        this.parameters = new Object[]{"localhost", 8080};
+    }
+
+    @Benchmark
+    public Object reflection() {
+        return this.recordBinding.newInstance(this.parameters)
+                .orElseThrow();
+    }
+
+    @Benchmark
+    public Object methodHandle() throws Throwable {
+        return (Object) this.factory.invokeExact(this.parameters);
+    }
+
+    public record Server(String host, int port) {
+    }
+
+}
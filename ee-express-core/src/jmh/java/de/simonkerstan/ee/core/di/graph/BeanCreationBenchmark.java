@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2025 Simon Kerstan
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.simonkerstan.ee.core.di.graph;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creation of non-singleton beans: reflective creation of {@link ConstructorBeanCreationInformation} compared with a
+ * constructor compiled into a spread method handle.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class BeanCreationBenchmark {
+
+    private ConstructorBeanCreationInformation beanCreationInformation;
+    private MethodHandle factory;
+    private Object[] parameters;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        final var constructor = Bean.class.getConstructor(Dependency.class, Dependency.class);
+        this.beanCreationInformation = new ConstructorBeanCreationInformation(constructor, false);
+        this.factory = MethodHandles.publicLookup()
+                .unreflectConstructor(constructor)
+                .asSpreader(Object[].class, constructor.getParameterCount())
+                .asType(MethodType.methodType(Object.class, Object[].class));
+        this.parameters = new Object[]{new Dependency(), new Dependency()};
+    }
+
+    @Benchmark
+    public Object reflection() {
+        return this.beanCreationInformation.createBean(this.parameters);
+    }
+
+    @Benchmark
+    public Object methodHandle() throws Throwable {
+        return (Object) this.factory.invokeExact(this.parameters);
+    }
+
+    public static class Dependency {
+    }
+
+    public static class Bean {
+
+        private final Dependency first;
+        private final Dependency second;
+
+        public Bean(Dependency first, Dependency second) {
+            this.first = first;
+            this.second = second;
+        }
+
+    }
+
+}
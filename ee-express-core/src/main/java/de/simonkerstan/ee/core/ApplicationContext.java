@@ -6,10 +6,21 @@
 package de.simonkerstan.ee.core;
 
 import de.simonkerstan.ee.core.configuration.Configuration;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.ToString;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 /**
  * Application context with the necessary state for the application.
@@ -21,6 +32,94 @@ public class ApplicationContext {
     private final Configuration configuration;
     private final String[] bootstrapPackages;
     private final Map<Class<?>, Object> beans;
+    /**
+     * Lazy beans which have not been created at startup. They are created on the first call of {@link Supplier#get()}.
+     */
+    private final Map<Class<?>, Supplier<?>> lazyBeans;
     private final Runnable mainApplication;
+    /**
+     * Cache of all bean instances assignable to a type (including lazy beans, each instance only once). The beans are
+     * only searched and created on the first lookup of a type.
+     */
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private final Map<Class<?>, List<Object>> assignableBeans = new ConcurrentHashMap<>();
+
+    /**
+     * Create a new application context without lazy beans.
+     *
+     * @param configuration     Configuration of the application
+     * @param bootstrapPackages Packages scanned for classes
+     * @param beans             All bean instances (bean type -> instance)
+     * @param mainApplication   Main application to be run
+     */
+    public ApplicationContext(Configuration configuration, String[] bootstrapPackages, Map<Class<?>, Object> beans,
+                              Runnable mainApplication) {
+        this(configuration, bootstrapPackages, beans, Map.of(), mainApplication);
+    }
+
+    /**
+     * Get the bean of a type. If no bean is registered for exactly this type, the only bean assignable to the type is
+     * returned. Lazy beans are created on the first lookup.
+     *
+     * @param type Type of the bean
+     * @param <T>  Bean type
+     * @return Bean instance or {@code null} if there is no (unique) bean of this type
+     */
+    public <T> T getBean(Class<T> type) {
+        if (this.beans.containsKey(type)) {
+            return type.cast(this.beans.get(type));
+        }
+        final var lazyBean = this.lazyBeans.get(type);
+        if (lazyBean != null) {
+            return type.cast(lazyBean.get());
+        }
+
+        final var assignableBeans = this.getBeans(type);
+        return assignableBeans.size() == 1 ? assignableBeans.get(0) : null;
+    }
+
+    /**
+     * Get all beans assignable to a type (e.g., all implementations of an interface). Lazy beans are created on the
+     * first lookup. The search is only done on the first lookup of a type, all further lookups return the cached list.
+     *
+     * @param type Type of the beans
+     * @param <T>  Bean type
+     * @return Bean instances (each instance only once, immutable)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> List<T> getBeans(Class<T> type) {
+        final var cachedBeans = this.assignableBeans.get(type);
+        if (cachedBeans != null) {
+            // All instances are assignable to the type (checked on the first lookup)
+            return (List<T>) cachedBeans;
+        }
+
+        // Not computed inside the map because creating lazy beans can look up other beans of this context
+        final var foundBeans = this.findAssignableBeans(type);
+        final var previousBeans = this.assignableBeans.putIfAbsent(type, foundBeans);
+        return (List<T>) (previousBeans != null ? previousBeans : foundBeans);
+    }
+
+    private List<Object> findAssignableBeans(Class<?> type) {
+        final List<Object> assignableBeans = new ArrayList<>();
+        // The same instance is registered for all of its provided types
+        final Set<Object> instances = Collections.newSetFromMap(new IdentityHashMap<>());
+        this.beans.forEach((beanType, bean) -> {
+            if (type.isAssignableFrom(beanType) && bean != null && instances.add(bean)) {
+                assignableBeans.add(bean);
+            }
+        });
+        this.lazyBeans.forEach((beanType, lazyBean) -> {
+            if (type.isAssignableFrom(beanType)) {
+                final var bean = lazyBean.get();
+                if (bean != null && instances.add(bean)) {
+                    assignableBeans.add(bean);
+                }
+            }
+        });
+        return List.copyOf(assignableBeans);
+    }
 
 }
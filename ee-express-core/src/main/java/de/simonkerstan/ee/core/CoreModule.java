@@ -14,22 +14,30 @@ import de.simonkerstan.ee.core.di.BeanProvider;
 import de.simonkerstan.ee.core.exceptions.InvalidConfigurationSourceException;
 import de.simonkerstan.ee.core.modules.BeanInstanceProvider;
 import de.simonkerstan.ee.core.modules.FrameworkModule;
+import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 
 /**
  * Core framework module.
  * <p>
  * FOR INTERNAL USE ONLY. THE API CAN CHANGE AT ANY TIME.
  */
+@Slf4j
 public class CoreModule implements FrameworkModule {
 
     private static final String PROPERTIES_FILES_KEY = "core.configuration.properties.files";
+    private static final String XML_FILES_KEY = "core.configuration.xml.files";
+    private static final String JSON_FILES_KEY = "core.configuration.json.files";
+    private static final String RELOAD_KEY = "core.configuration.reload";
 
     private final ConfigurationSourceHook configurationSourceHook = new ConfigurationSourceHook();
+    private final ConfigurationConverterHook configurationConverterHook = new ConfigurationConverterHook();
     private Configuration configuration;
 
     @Override
@@ -41,6 +49,10 @@ public class CoreModule implements FrameworkModule {
             // Dirty hack to get the configuration with an automatically registered provider of command-line arguments.
             // If the configuration has the wrong format, nothing will be done in this module
 
+            // Add custom converters (before any value is resolved)
+            this.configurationConverterHook.getConverters()
+                    .forEach(defaultConfiguration::addConverter);
+
             // Add system properties (second source)
             final var systemPropertiesConfigurationProvider = new SystemPropertiesConfigurationProvider();
             defaultConfiguration.addConfigurationProvider(systemPropertiesConfigurationProvider);
@@ -50,14 +62,16 @@ public class CoreModule implements FrameworkModule {
                     .forEach(defaultConfiguration::addConfigurationProvider);
 
             // Add configuration files (fourth source)
+            final Map<Path, ConfigurationProvider> configurationFileProviders = new LinkedHashMap<>();
             // Properties files
-            Arrays.stream(this.configuration.getPropertyValue(PROPERTIES_FILES_KEY, String.class, "")
-                                  .split(";"))
-                    .map(String::trim)
-                    .map(filename -> ConfigurationFileLoader.loadProvider(PropertiesFileConfigurationProvider.class,
-                                                                          filename))
-                    .flatMap(Optional::stream)
-                    .forEach(defaultConfiguration::addConfigurationProvider);
+            this.addConfigurationFiles(defaultConfiguration, PROPERTIES_FILES_KEY,
+                                       PropertiesFileConfigurationProvider.class, configurationFileProviders);
+            // XML files
+            this.addConfigurationFiles(defaultConfiguration, XML_FILES_KEY, XmlFileConfigurationProvider.class,
+                                       configurationFileProviders);
+            // JSON files
+            this.addConfigurationFiles(defaultConfiguration, JSON_FILES_KEY, JsonFileConfigurationProvider.class,
+                                       configurationFileProviders);
 
             // Add environment variables (fifth source)
             final var environmentConfigurationProvider = new EnvironmentConfigurationProvider();
@@ -73,12 +87,63 @@ public class CoreModule implements FrameworkModule {
                                                                   e);
                 }
             }
+
+            // Watch the configuration files for changes
+            if (!configurationFileProviders.isEmpty()
+                    && this.configuration.getPropertyValue(RELOAD_KEY, Boolean.class, false)) {
+                this.watchConfigurationFiles(defaultConfiguration, configurationFileProviders);
+            }
+        }
+    }
+
+    /**
+     * Load all configuration files of a type and add them to the configuration.
+     *
+     * @param defaultConfiguration       Configuration
+     * @param filesKey                   Key of the configuration property with all files (separated by semicolons)
+     * @param providerClass              Class of the providers of the files
+     * @param configurationFileProviders Map to add the provider of each loaded file to
+     */
+    private void addConfigurationFiles(DefaultConfiguration defaultConfiguration, String filesKey,
+                                       Class<? extends ConfigurationProvider> providerClass,
+                                       Map<Path, ConfigurationProvider> configurationFileProviders) {
+        Arrays.stream(this.configuration.getPropertyValue(filesKey, String.class, "")
+                              .split(";"))
+                .map(String::trim)
+                .filter(filename -> !filename.isEmpty())
+                .forEach(filename -> ConfigurationFileLoader.loadProvider(providerClass, filename)
+                        .ifPresent(provider -> {
+                            configurationFileProviders.put(Path.of(filename), provider);
+                            defaultConfiguration.addConfigurationProvider(provider);
+                        }));
+    }
+
+    private void watchConfigurationFiles(DefaultConfiguration defaultConfiguration,
+                                         Map<Path, ConfigurationProvider> configurationFileProviders) {
+        final ConfigurationFileWatcher configurationFileWatcher;
+        try {
+            configurationFileWatcher = new ConfigurationFileWatcher(defaultConfiguration, configurationFileProviders);
+        } catch (IOException e) {
+            // Reloading is optional, so the application can be started anyway
+            log.warn("Cannot watch configuration files {}. Reloading is disabled.",
+                     configurationFileProviders.keySet(), e);
+            return;
         }
+
+        // Register shutdown handling
+        Runtime.getRuntime()
+                .addShutdownHook(new Thread(() -> {
+                    try {
+                        configurationFileWatcher.close();
+                    } catch (IOException e) {
+                        log.warn("Error closing configuration file watcher (in shutdown hook)", e);
+                    }
+                }));
     }
 
     @Override
     public List<ClassHook> classHooks() {
-        return List.of(this.configurationSourceHook);
+        return List.of(this.configurationSourceHook, this.configurationConverterHook);
     }
 
     @Override
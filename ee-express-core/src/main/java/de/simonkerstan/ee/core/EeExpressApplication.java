@@ -8,17 +8,35 @@ package de.simonkerstan.ee.core;
 import de.simonkerstan.ee.core.bootstrap.MainApplicationHook;
 import de.simonkerstan.ee.core.classpath.ClasspathResolver;
 import de.simonkerstan.ee.core.clazz.ClassScanner;
+import de.simonkerstan.ee.core.configuration.Configuration;
 import de.simonkerstan.ee.core.configuration.DefaultConfiguration;
+import de.simonkerstan.ee.core.configuration.SystemPropertiesConfigurationProvider;
 import de.simonkerstan.ee.core.di.DependencyInjectionHook;
+import de.simonkerstan.ee.core.modules.FrameworkModule;
 import de.simonkerstan.ee.core.modules.FrameworkModuleLoader;
 import lombok.extern.slf4j.Slf4j;
 
+import java.nio.file.Path;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
 /**
  * Main application initializer.
  */
 @Slf4j
 public final class EeExpressApplication {
 
+    private static final String CLASSPATH_PARALLELISM_KEY = "core.classpath.parallelism";
+    private static final String SCAN_CACHE_DIRECTORY_KEY = "core.scan.cache.dir";
+    private static final String SCAN_PARALLELISM_KEY = "core.scan.parallelism";
+    private static final String SCAN_INDEX_KEY = "core.scan.index";
+    private static final String MODULES_PARALLELISM_KEY = "core.modules.parallelism";
+    private static final String CONFIGURATION_FROZEN_KEY = "core.configuration.frozen";
+    private static final String DI_PARALLEL_KEY = "core.di.parallel";
+    private static final String DI_PARALLELISM_KEY = "core.di.parallelism";
+    private static final String DI_LAZY_DEFAULT_KEY = "core.di.lazy-default";
+    private static final String DI_PRUNE_UNREACHABLE_KEY = "core.di.prune-unreachable";
+
     private EeExpressApplication() {
     }
 
@@ -35,11 +53,17 @@ public final class EeExpressApplication {
         // Also, the main application class will be registered in the application context.
         // In addition to that, also all framework modules will be loaded, initialized and registered.
 
+        // Load the configuration used before the framework modules are initialized (only command line arguments and
+        // system properties are available at this point)
+        final var bootstrapConfiguration = createBootstrapConfiguration(args);
+
         // Get a wrapper for the full classpath
-        final var classpathItem = ClasspathResolver.getWrapperForFullClasspath();
+        final var classpathItem = ClasspathResolver.getWrapperForFullClasspath(
+                bootstrapConfiguration.getPropertyValue(CLASSPATH_PARALLELISM_KEY, Integer.class, 1));
 
         // Load all framework modules
-        final var modules = FrameworkModuleLoader.loadFrameworkModules(classpathItem);
+        final var moduleGraph = FrameworkModuleLoader.loadFrameworkModuleGraph(classpathItem);
+        final var modules = moduleGraph.getModules();
         log.info("Loaded {} framework module(s)", modules.size());
         if (log.isDebugEnabled()) {
             modules.forEach(module -> log.debug("Loaded framework module {}", module.getClass()
@@ -55,6 +79,14 @@ public final class EeExpressApplication {
 
         // Scan all base packages for dependency injection and module initialization
         final var classScanner = new ClassScanner(bootstrapPackages, classpathItem);
+        bootstrapConfiguration.getPropertyValue(SCAN_CACHE_DIRECTORY_KEY, String.class)
+                .map(Path::of)
+                .ifPresent(classScanner::enableScanCache);
+        if (!bootstrapConfiguration.getPropertyValue(SCAN_INDEX_KEY, Boolean.class, true)) {
+            classScanner.disableClassIndex();
+        }
+        classScanner.enableParallelScan(
+                bootstrapConfiguration.getPropertyValue(SCAN_PARALLELISM_KEY, Integer.class, 1));
         // Register dependency injection hooks
         classScanner.registerClassHook(dependencyInjectionHook);
         classScanner.registerClassInterfacesHook(dependencyInjectionHook);
@@ -72,22 +104,59 @@ public final class EeExpressApplication {
         // Scan for classes and methods
         classScanner.scan();
 
-        // Initialize all framework modules (already sorted by priority)
-        modules.forEach(module -> {
+        // Initialize all framework modules (every module after the modules it depends on)
+        final var modulesParallelism = bootstrapConfiguration.getPropertyValue(MODULES_PARALLELISM_KEY, Integer.class,
+                                                                               1);
+        final Consumer<FrameworkModule> moduleInitializer = module -> {
             module.init(configuration, classpathItem, dependencyInjectionHook);
             module.beanProviders()
                     .forEach(dependencyInjectionHook::addBeanProvider);
-        });
+        };
+        if (modulesParallelism > 1) {
+            // Independent modules are initialized concurrently
+            final var executor = Executors.newFixedThreadPool(modulesParallelism);
+            try {
+                moduleGraph.initialize(moduleInitializer, executor);
+            } finally {
+                executor.shutdown();
+            }
+        } else {
+            moduleGraph.initialize(moduleInitializer, null);
+        }
+        if (configuration.getPropertyValue(CONFIGURATION_FROZEN_KEY, Boolean.class, false)) {
+            // All configuration providers are added by the core module, so the configuration can be frozen now
+            configuration.freeze();
+        }
 
         // Create all beans and set up the CDI context
-        dependencyInjectionHook.postProcess();
+        dependencyInjectionHook.setLazyDefault(
+                configuration.getPropertyValue(DI_LAZY_DEFAULT_KEY, Boolean.class, false));
+        dependencyInjectionHook.setPruneUnreachableBeans(
+                configuration.getPropertyValue(DI_PRUNE_UNREACHABLE_KEY, Boolean.class, false));
+        if (mainApplicationHook.getMainApplicationClass() != null) {
+            // The main application is always a root bean
+            dependencyInjectionHook.addRootType(mainApplicationHook.getMainApplicationClass());
+        }
+        if (configuration.getPropertyValue(DI_PARALLEL_KEY, Boolean.class, false)) {
+            // Independent beans are instantiated concurrently
+            final var executor = Executors.newFixedThreadPool(
+                    configuration.getPropertyValue(DI_PARALLELISM_KEY, Integer.class, Runtime.getRuntime()
+                            .availableProcessors()));
+            try {
+                dependencyInjectionHook.postProcess(executor);
+            } finally {
+                executor.shutdown();
+            }
+        } else {
+            dependencyInjectionHook.postProcess();
+        }
 
         // Get the main application class and save it in the application context
         final var mainApplication = getMainApplication(mainApplicationHook, dependencyInjectionHook);
 
         // Create the application context
         return new ApplicationContext(configuration, classScanner.getScanPackages(), dependencyInjectionHook.getBeans(),
-                                      mainApplication);
+                                      dependencyInjectionHook.getLazyBeans(), mainApplication);
     }
 
     /**
@@ -109,6 +178,12 @@ public final class EeExpressApplication {
                 .run();
     }
 
+    private static Configuration createBootstrapConfiguration(String[] args) {
+        final var bootstrapConfiguration = new DefaultConfiguration(args);
+        bootstrapConfiguration.addConfigurationProvider(new SystemPropertiesConfigurationProvider());
+        return bootstrapConfiguration;
+    }
+
     private static Runnable getMainApplication(MainApplicationHook mainApplicationHook,
                                                DependencyInjectionHook dependencyInjectionHook) {
         final var mainClass = mainApplicationHook.getMainApplicationClass();
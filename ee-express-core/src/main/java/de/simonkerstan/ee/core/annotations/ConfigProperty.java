@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2025 Simon Kerstan
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.simonkerstan.ee.core.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation for constructor parameters of beans which are injected with the value of a configuration property
+ * (instead of a bean). The value is resolved once at application startup, so a missing property fails the startup.
+ * Parameters can have all types supported by the configuration (including records), {@link java.util.List} and
+ * {@link java.util.Map} (with {@link String} keys).
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.PARAMETER)
+public @interface ConfigProperty {
+
+    /**
+     * Marker for properties without a default value.
+     */
+    String NO_DEFAULT_VALUE = "\0";
+
+    /**
+     * Name of the configuration property.
+     *
+     * @return Name of the property
+     */
+    String value();
+
+    /**
+     * Default value if the property is missing. It is converted like a property value. Lists and maps only support an
+     * empty default value (an empty list or map).
+     *
+     * @return Default value or {@link #NO_DEFAULT_VALUE} if the property is required
+     */
+    String defaultValue() default NO_DEFAULT_VALUE;
+
+}
@@ -0,0 +1,28 @@
+/*
+ * Copyright (c) 2025 Simon Kerstan
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.simonkerstan.ee.core.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation for beans which should only be created when they are required by another bean or looked up (instead of
+ * at application startup). This overrides the global default ({@code core.di.lazy-default}).
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Lazy {
+
+    /**
+     * Whether the bean should be created lazily.
+     *
+     * @return {@code true} if the bean should be created lazily, {@code false} if it should be created at startup
+     */
+    boolean value() default true;
+
+}
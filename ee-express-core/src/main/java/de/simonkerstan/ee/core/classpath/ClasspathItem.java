@@ -6,7 +6,10 @@
 package de.simonkerstan.ee.core.classpath;
 
 import java.io.InputStream;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * One item in the classpath (e.g., a jar file).
@@ -49,4 +52,33 @@ public interface ClasspathItem extends AutoCloseable {
      */
     InputStream getResourceAsStream(String path);
 
+    /**
+     * Get the location of this item in the file system (e.g., the jar file or the directory).
+     *
+     * @return Location of this item or empty if the item has no location in the file system
+     */
+    default Optional<Path> getLocation() {
+        return Optional.empty();
+    }
+
+    /**
+     * Get all directories of this item if they are known without accessing the underlying storage (e.g., from an index
+     * built when the item was created).
+     *
+     * @return Paths of all directories (without leading or trailing slashes, the root directory is the empty string) or
+     * empty if the directories of this item are not known in advance
+     */
+    default Optional<Set<String>> getIndexedDirectories() {
+        return Optional.empty();
+    }
+
+    /**
+     * Get all single items addressed by this item (e.g., all jar files and directories of a wrapper).
+     *
+     * @return Single items in classpath order
+     */
+    default List<ClasspathItem> getSingleItems() {
+        return List.of(this);
+    }
+
 }
@@ -15,6 +15,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Resolver for classpath items.
@@ -28,17 +29,36 @@ public final class ClasspathResolver {
     }
 
     /**
-     * Get a wrapper for the full classpath.
+     * Get a wrapper for the full classpath. All classpath entries are opened sequentially on the calling thread.
      *
      * @return Wrapper for the full classpath
      */
     public static ClasspathItem getWrapperForFullClasspath() {
+        return getWrapperForFullClasspath(1);
+    }
+
+    /**
+     * Get a wrapper for the full classpath. If the parallelism is greater than one, all classpath entries are opened
+     * and indexed concurrently (jar files read their central directory, directories are walked once). The order of
+     * the classpath is kept in any case.
+     *
+     * @param parallelism Maximum number of threads used to open the classpath entries
+     * @return Wrapper for the full classpath
+     */
+    public static ClasspathItem getWrapperForFullClasspath(int parallelism) {
         final var internalClasspathItems = List.of(getJvmClasspathItem());
-        final var classpathItems = Arrays.stream(System.getProperty("java.class.path")
-                                                         .split(":"))
-                .map(ClasspathResolver::fromClasspathEntry)
-                .filter(Objects::nonNull)
-                .toList();
+        final var classpathEntries = System.getProperty("java.class.path")
+                .split(":");
+        final List<ClasspathItem> classpathItems;
+        if (parallelism > 1 && classpathEntries.length > 1) {
+            classpathItems = openClasspathEntriesInParallel(classpathEntries,
+                                                            Math.min(parallelism, classpathEntries.length));
+        } else {
+            classpathItems = Arrays.stream(classpathEntries)
+                    .map(classpathEntry -> fromClasspathEntry(classpathEntry, false))
+                    .filter(Objects::nonNull)
+                    .toList();
+        }
         final List<ClasspathItem> allClasspathItems = new ArrayList<>(
                 internalClasspathItems.size() + classpathItems.size());
         allClasspathItems.addAll(internalClasspathItems);
@@ -46,12 +66,28 @@ public final class ClasspathResolver {
         return new MultipleItemsWrapperClasspathItem(allClasspathItems);
     }
 
-    private static ClasspathItem fromClasspathEntry(String classpathEntry) {
+    private static List<ClasspathItem> openClasspathEntriesInParallel(String[] classpathEntries, int parallelism) {
+        log.debug("Opening {} classpath entries with {} threads.", classpathEntries.length, parallelism);
+        final var pool = new ForkJoinPool(parallelism);
+        try {
+            // The parallel stream runs in the bounded pool because it is started from a task of that pool
+            return pool.submit(() -> Arrays.stream(classpathEntries)
+                            .parallel()
+                            .map(classpathEntry -> fromClasspathEntry(classpathEntry, true))
+                            .filter(Objects::nonNull)
+                            .toList())
+                    .join();
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static ClasspathItem fromClasspathEntry(String classpathEntry, boolean indexed) {
         final var entryPath = Path.of(classpathEntry);
         if (Files.isDirectory(entryPath)) {
             // Directory classpath item
             log.debug("Classpath entry {} is a directory.", classpathEntry);
-            return new DirectoryClasspathItem(entryPath);
+            return new DirectoryClasspathItem(entryPath, indexed);
         } else if (classpathEntry.endsWith(".jar")) {
             // JAR file classpath item
             log.debug("Classpath entry {} is a JAR file.", classpathEntry);
@@ -11,10 +11,18 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 /**
- * Classpath item for a directory.
+ * Classpath item for a directory. The directory can optionally be indexed when the item is created. Indexed items
+ * answer all lookups from memory but do not see changes made to the directory afterward.
  * <p>
  * FOR INTERNAL USE ONLY. THE API CAN CHANGE AT ANY TIME.
  */
@@ -22,26 +30,65 @@ import java.util.List;
 public class DirectoryClasspathItem implements ClasspathItem {
 
     private final Path path;
+    /**
+     * Map of all directories if the item is indexed. (relative directory path -> children names)
+     */
+    private final Map<String, List<String>> directories;
+    /**
+     * Set of all files if the item is indexed. (relative file path)
+     */
+    private final Set<String> files;
 
     public DirectoryClasspathItem(Path path) {
-        this.path = path.toAbsolutePath();
+        this(path, false);
+    }
+
+    /**
+     * Create a new directory classpath item.
+     *
+     * @param path    Path to the directory
+     * @param indexed {@code true} if the directory tree should be indexed once, {@code false} if every lookup should
+     *                access the file system
+     */
+    public DirectoryClasspathItem(Path path, boolean indexed) {
+        this.path = path.toAbsolutePath()
+                .normalize();
+        if (indexed) {
+            this.directories = new HashMap<>();
+            this.files = new HashSet<>();
+            this.indexDirectoryTree();
+        } else {
+            this.directories = null;
+            this.files = null;
+        }
     }
 
     @Override
     public boolean isResourceExisting(String path) {
         this.sanitizePath(path);
+        if (this.directories != null) {
+            final var key = this.toIndexKey(path);
+            return this.directories.containsKey(key) || this.files.contains(key);
+        }
         return Files.exists(this.path.resolve(path));
     }
 
     @Override
     public boolean isDirectory(String path) {
         this.sanitizePath(path);
+        if (this.directories != null) {
+            return this.directories.containsKey(this.toIndexKey(path));
+        }
         return Files.isDirectory(this.path.resolve(path));
     }
 
     @Override
     public List<String> getChildren(String path) {
         this.sanitizePath(path);
+        if (this.directories != null) {
+            return this.directories.getOrDefault(this.toIndexKey(path), List.of());
+        }
+
         final var resolvedPath = this.path.resolve(path);
         try (var walk = Files.walk(resolvedPath, 1)) {
             return walk.filter(other -> !resolvedPath.equals(other))
@@ -65,6 +112,18 @@ public class DirectoryClasspathItem implements ClasspathItem {
         }
     }
 
+    @Override
+    public Optional<Path> getLocation() {
+        return Optional.of(this.path);
+    }
+
+    @Override
+    public Optional<Set<String>> getIndexedDirectories() {
+        return Optional.ofNullable(this.directories)
+                .map(Map::keySet)
+                .map(Collections::unmodifiableSet);
+    }
+
     @Override
     public void close() throws Exception {
         // Nothing to do.
@@ -83,4 +142,47 @@ public class DirectoryClasspathItem implements ClasspathItem {
         }
     }
 
+    /**
+     * Walk the whole directory tree once and remember all directories (with their children) and files.
+     */
+    private void indexDirectoryTree() {
+        final Map<String, List<String>> children = new HashMap<>();
+        try (var walk = Files.walk(this.path)) {
+            walk.forEach(element -> {
+                final var key = this.toIndexKey(element);
+                if (Files.isDirectory(element)) {
+                    children.computeIfAbsent(key, _k -> new ArrayList<>());
+                } else {
+                    this.files.add(key);
+                }
+
+                if (!key.isEmpty()) {
+                    // Register the element in its parent directory (always visited before by the walk)
+                    final var separatorIndex = key.lastIndexOf('/');
+                    final var parentKey = separatorIndex < 0 ? "" : key.substring(0, separatorIndex);
+                    children.computeIfAbsent(parentKey, _k -> new ArrayList<>())
+                            .add(element.getFileName()
+                                         .toString());
+                }
+            });
+        } catch (IOException e) {
+            log.warn("Cannot index directory {}", this.path, e);
+        }
+
+        children.forEach((directory, directoryChildren) -> this.directories.put(directory,
+                                                                                List.copyOf(directoryChildren)));
+    }
+
+    private String toIndexKey(String path) {
+        return this.toIndexKey(this.path.resolve(path)
+                                       .normalize());
+    }
+
+    private String toIndexKey(Path absolutePath) {
+        final var relativePath = this.path.relativize(absolutePath)
+                .toString();
+        return relativePath.replace(absolutePath.getFileSystem()
+                                            .getSeparator(), "/");
+    }
+
 }
@@ -5,27 +5,40 @@
 
 package de.simonkerstan.ee.core.classpath;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
 /**
- * Classpath item for a jar file.
+ * Classpath item for a jar file. All entries of the jar file are indexed once when the item is created, so lookups do
+ * not depend on the size of the jar file.
  * <p>
  * FOR INTERNAL USE ONLY. THE API CAN CHANGE AT ANY TIME.
  */
-@RequiredArgsConstructor
 @Slf4j
 public class JarClasspathItem implements ClasspathItem {
 
     private final ZipFile jarFile;
+    /**
+     * Map of all file entries. (entry name -> entry)
+     */
+    private final Map<String, ZipEntry> files = new HashMap<>();
+    /**
+     * Map of all directories (explicit and implicit ones). (directory name without trailing slash -> children names)
+     */
+    private final Map<String, List<String>> directories = new HashMap<>();
 
     /**
      * Create a new JAR classpath item.
@@ -34,43 +47,62 @@ public class JarClasspathItem implements ClasspathItem {
      * @throws IOException If the jar file cannot be opened
      */
     public JarClasspathItem(String jarFilePath) throws IOException {
-        final var file = new File(jarFilePath);
-        this.jarFile = new ZipFile(file);
+        this(new ZipFile(new File(jarFilePath)));
+    }
+
+    /**
+     * Create a new JAR classpath item from an already opened jar file.
+     *
+     * @param jarFile The jar file to be used
+     */
+    public JarClasspathItem(ZipFile jarFile) {
+        this.jarFile = jarFile;
+        this.indexEntries();
     }
 
     @Override
     public boolean isResourceExisting(String path) {
-        return this.getEntry(path)
-                .isPresent();
+        final var normalizedPath = normalizePath(path);
+        return this.files.containsKey(normalizedPath) || this.directories.containsKey(normalizedPath);
     }
 
     @Override
     public boolean isDirectory(String path) {
-        return this.getEntry(path)
-                .map(ZipEntry::isDirectory)
-                .orElseThrow(() -> new IllegalArgumentException("Resource is not existing in jar file"));
+        final var normalizedPath = normalizePath(path);
+        if (this.directories.containsKey(normalizedPath)) {
+            return true;
+        } else if (this.files.containsKey(normalizedPath)) {
+            return false;
+        }
+
+        throw new IllegalArgumentException("Resource is not existing in jar file");
     }
 
     @Override
     public List<String> getChildren(String path) {
-        final var entry = this.getEntry(path)
-                .orElseThrow(() -> new IllegalArgumentException("Resource is not existing in jar file"));
-        if (!entry.isDirectory()) {
-            throw new IllegalArgumentException("Resource is not a directory");
+        final var normalizedPath = normalizePath(path);
+        final var children = this.directories.get(normalizedPath);
+        if (children == null) {
+            if (this.files.containsKey(normalizedPath)) {
+                throw new IllegalArgumentException("Resource is not a directory");
+            }
+            throw new IllegalArgumentException("Resource is not existing in jar file");
         }
 
-        return this.jarFile.stream()
-                .map(ZipEntry::getName)
-                .filter(name -> name.startsWith(path))
-                .map(name -> name.substring(path.length() + 1))
-                .filter(name -> !name.contains("/"))
-                .toList();
+        return children;
     }
 
     @Override
     public InputStream getResourceAsStream(String path) {
-        final var entry = this.getEntry(path)
-                .orElseThrow(() -> new IllegalArgumentException("Resource is not existing in jar file"));
+        final var normalizedPath = normalizePath(path);
+        final var entry = this.files.get(normalizedPath);
+        if (entry == null) {
+            if (this.directories.containsKey(normalizedPath)) {
+                throw new IllegalArgumentException("Resource is a directory");
+            }
+            throw new IllegalArgumentException("Resource is not existing in jar file");
+        }
+
         try {
             return this.jarFile.getInputStream(entry);
         } catch (IOException e) {
@@ -79,13 +111,83 @@ public class JarClasspathItem implements ClasspathItem {
         }
     }
 
+    @Override
+    public Optional<Path> getLocation() {
+        return Optional.of(Path.of(this.jarFile.getName()));
+    }
+
+    @Override
+    public Optional<Set<String>> getIndexedDirectories() {
+        return Optional.of(Collections.unmodifiableSet(this.directories.keySet()));
+    }
+
     @Override
     public void close() throws Exception {
         this.jarFile.close();
     }
 
-    private Optional<ZipEntry> getEntry(String path) {
-        return Optional.ofNullable(this.jarFile.getEntry(path));
+    /**
+     * Build the index of all files and directories by reading the central directory of the jar file once.
+     */
+    private void indexEntries() {
+        final Map<String, Set<String>> children = new HashMap<>();
+        // The root directory always exists
+        children.put("", new LinkedHashSet<>());
+
+        final var entries = this.jarFile.entries();
+        while (entries.hasMoreElements()) {
+            final var entry = entries.nextElement();
+            final var name = normalizePath(entry.getName());
+            if (name.isEmpty()) {
+                continue;
+            }
+
+            if (entry.isDirectory()) {
+                children.computeIfAbsent(name, _k -> new LinkedHashSet<>());
+            } else {
+                this.files.put(name, entry);
+            }
+
+            // Register the entry in all parent directories (even if there is no explicit directory entry)
+            String childPath = name;
+            int separatorIndex;
+            while ((separatorIndex = childPath.lastIndexOf('/')) >= 0) {
+                final var parentPath = childPath.substring(0, separatorIndex);
+                final boolean added = children.computeIfAbsent(parentPath, _k -> new LinkedHashSet<>())
+                        .add(childPath.substring(separatorIndex + 1));
+                if (!added) {
+                    // Parent directories were already registered by another entry
+                    childPath = null;
+                    break;
+                }
+                childPath = parentPath;
+            }
+            if (childPath != null) {
+                children.get("")
+                        .add(childPath);
+            }
+        }
+
+        children.forEach((directory, directoryChildren) -> this.directories.put(directory,
+                                                                                List.copyOf(directoryChildren)));
+    }
+
+    /**
+     * Normalize a path to the format used in the index (no leading or trailing slashes).
+     *
+     * @param path Path to be normalized
+     * @return Normalized path
+     */
+    private static String normalizePath(String path) {
+        int start = 0;
+        int end = path.length();
+        while (start < end && path.charAt(start) == '/') {
+            start++;
+        }
+        while (end > start && path.charAt(end - 1) == '/') {
+            end--;
+        }
+        return path.substring(start, end);
     }
 
 }
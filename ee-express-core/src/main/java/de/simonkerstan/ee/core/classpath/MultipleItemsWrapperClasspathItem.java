@@ -5,41 +5,85 @@
 
 package de.simonkerstan.ee.core.classpath;
 
-import lombok.RequiredArgsConstructor;
-
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 
 /**
  * Multiple items in the classpath addressed as one. All items are visited in the order they are added to this wrapper.
  * <p>
+ * Every lookup is routed through a directory index built once when the wrapper is created: a path is only passed to
+ * the items containing its parent directory. Items without indexed directories (see
+ * {@link ClasspathItem#getIndexedDirectories()}) are part of every route.
+ * <p>
  * FOR INTERNAL USE ONLY. THE API CAN CHANGE AT ANY TIME.
  */
-@RequiredArgsConstructor
 public class MultipleItemsWrapperClasspathItem implements ClasspathItem {
 
     private final List<ClasspathItem> items;
+    /**
+     * Index of all directories. (directory path -> items containing the directory or without indexed directories in
+     * classpath order)
+     */
+    private final Map<String, List<ClasspathItem>> directoryIndex;
+    /**
+     * Items without indexed directories in classpath order (route of all directories not in the index).
+     */
+    private final List<ClasspathItem> unindexedItems;
+
+    /**
+     * Create a new wrapper and index the directories of all items.
+     *
+     * @param items Items to be wrapped in classpath order
+     */
+    public MultipleItemsWrapperClasspathItem(List<ClasspathItem> items) {
+        this.items = items;
+
+        final Map<String, List<ClasspathItem>> index = new HashMap<>();
+        final List<ClasspathItem> itemsWithoutIndex = new ArrayList<>();
+        for (final var item : items) {
+            final var indexedDirectories = item.getIndexedDirectories();
+            if (indexedDirectories.isPresent()) {
+                // Directories seen for the first time are routed to all previous items without index, too
+                indexedDirectories.get()
+                        .forEach(directory -> index.computeIfAbsent(directory, _k -> new ArrayList<>(itemsWithoutIndex))
+                                .add(item));
+            } else {
+                itemsWithoutIndex.add(item);
+                index.values()
+                        .forEach(directoryItems -> directoryItems.add(item));
+            }
+        }
+
+        index.replaceAll((_directory, directoryItems) -> List.copyOf(directoryItems));
+        this.directoryIndex = Map.copyOf(index);
+        this.unindexedItems = List.copyOf(itemsWithoutIndex);
+    }
 
     @Override
     public boolean isResourceExisting(String path) {
-        return this.getFirstItemContainingResource(path)
-                .isPresent();
+        return !this.getItemsContainingResource(path)
+                .isEmpty();
     }
 
     @Override
     public boolean isDirectory(String path) {
-        return this.getFirstItemContainingResource(path)
-                .map(item -> item.isDirectory(path))
-                .orElseThrow(() -> new IllegalArgumentException("Resource is not existing in any classpath item"));
+        final var itemsContainingResource = this.getItemsContainingResource(path);
+        if (itemsContainingResource.isEmpty()) {
+            throw new IllegalArgumentException("Resource is not existing in any classpath item");
+        }
+
+        return itemsContainingResource.get(0)
+                .isDirectory(path);
     }
 
     @Override
     public List<String> getChildren(String path) {
-        return this.items.stream()
-                .filter(item -> item.isResourceExisting(path))
-                .filter(item -> item.isDirectory(path))
+        return this.getItemsContainingDirectory(path)
+                .stream()
                 .map(item -> item.getChildren(path))
                 .flatMap(List::stream)
                 .toList();
@@ -47,14 +91,24 @@ public class MultipleItemsWrapperClasspathItem implements ClasspathItem {
 
     @Override
     public InputStream getResourceAsStream(String path) {
-        final var item = this.getFirstItemContainingResource(path);
-        if (item.isEmpty()) {
+        final var itemsContainingResource = this.getItemsContainingResource(path);
+        if (itemsContainingResource.isEmpty()) {
             throw new IllegalArgumentException("Resource is not existing in any classpath item");
         }
 
-        return item.filter(item2 -> !item2.isDirectory(path))
-                .map(item2 -> item2.getResourceAsStream(path))
-                .orElseThrow(() -> new IllegalArgumentException("Resource is a directory"));
+        final var item = itemsContainingResource.get(0);
+        if (item.isDirectory(path)) {
+            throw new IllegalArgumentException("Resource is a directory");
+        }
+        return item.getResourceAsStream(path);
+    }
+
+    @Override
+    public List<ClasspathItem> getSingleItems() {
+        return this.items.stream()
+                .map(ClasspathItem::getSingleItems)
+                .flatMap(List::stream)
+                .toList();
     }
 
     @Override
@@ -77,19 +131,68 @@ public class MultipleItemsWrapperClasspathItem implements ClasspathItem {
     }
 
     /**
-     * Get the first item containing the resource.
+     * Get all items containing the resource (routed by the directory index of its parent directory).
      *
      * @param path Path to the resource
-     * @return Item containing the resource or empty if none of the items contains the resource
+     * @return Items containing the resource in classpath order (empty if none of the items contains the resource)
      */
-    private Optional<ClasspathItem> getFirstItemContainingResource(String path) {
-        for (final var item : this.items) {
-            if (item.isResourceExisting(path)) {
-                return Optional.of(item);
-            }
-        }
+    private List<ClasspathItem> getItemsContainingResource(String path) {
+        return this.getRoute(getParentDirectory(normalizePath(path)))
+                .stream()
+                .filter(item -> item.isResourceExisting(path))
+                .toList();
+    }
+
+    /**
+     * Get all items containing the path as directory (routed by the directory index).
+     *
+     * @param path Path to the directory
+     * @return Items containing the directory in classpath order (empty if none of the items contains the directory)
+     */
+    private List<ClasspathItem> getItemsContainingDirectory(String path) {
+        return this.getRoute(normalizePath(path))
+                .stream()
+                .filter(item -> item.isResourceExisting(path) && item.isDirectory(path))
+                .toList();
+    }
 
-        return Optional.empty();
+    /**
+     * Get the items which may contain a directory.
+     *
+     * @param directory Normalized path to the directory
+     * @return Items containing the directory or without indexed directories in classpath order
+     */
+    private List<ClasspathItem> getRoute(String directory) {
+        return this.directoryIndex.getOrDefault(directory, this.unindexedItems);
+    }
+
+    /**
+     * Get the parent directory of a path.
+     *
+     * @param normalizedPath Normalized path
+     * @return Normalized path of the parent directory (the root directory is its own parent)
+     */
+    private static String getParentDirectory(String normalizedPath) {
+        final var separatorIndex = normalizedPath.lastIndexOf('/');
+        return separatorIndex < 0 ? "" : normalizedPath.substring(0, separatorIndex);
+    }
+
+    /**
+     * Normalize a path to the format used in the index (no leading or trailing slashes).
+     *
+     * @param path Path to be normalized
+     * @return Normalized path
+     */
+    private static String normalizePath(String path) {
+        int start = 0;
+        int end = path.length();
+        while (start < end && path.charAt(start) == '/') {
+            start++;
+        }
+        while (end > start && path.charAt(end - 1) == '/') {
+            end--;
+        }
+        return path.substring(start, end);
     }
 
 }
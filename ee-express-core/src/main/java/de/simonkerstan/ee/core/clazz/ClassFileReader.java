@@ -0,0 +1,264 @@
+/*
+ * Copyright (c) 2025 Simon Kerstan
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.simonkerstan.ee.core.clazz;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Lightweight reader for class files. Only the constant pool, the access flags, the super class and the
+ * {@code RuntimeVisibleAnnotations} attributes of the class, its constructors and its methods are read. All other
+ * parts of the class file are skipped.
+ * <p>
+ * This is used to decide whether a class must be loaded at all while scanning.
+ * <p>
+ * FOR INTERNAL USE ONLY. THE API CAN CHANGE AT ANY TIME.
+ */
+final class ClassFileReader {
+
+    private static final int MAGIC = 0xCAFEBABE;
+    static final int ACC_PUBLIC = 0x0001;
+    static final int ACC_INTERFACE = 0x0200;
+    static final int ACC_ENUM = 0x4000;
+    private static final String RUNTIME_VISIBLE_ANNOTATIONS = "RuntimeVisibleAnnotations";
+    private static final String CONSTRUCTOR_NAME = "<init>";
+    private static final String DEFAULT_CONSTRUCTOR_DESCRIPTOR = "()V";
+
+    private ClassFileReader() {
+    }
+
+    /**
+     * Read a class file.
+     *
+     * @param inputStream Input stream of the class file (not closed by this method)
+     * @return Information about the class
+     * @throws IOException If the class file cannot be read or is malformed
+     */
+    static ClassFileInfo read(InputStream inputStream) throws IOException {
+        final var in = new DataInputStream(new BufferedInputStream(inputStream));
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a class file");
+        }
+        // Minor and major version
+        in.skipNBytes(4);
+
+        final var constantPool = readConstantPool(in);
+        final var accessFlags = in.readUnsignedShort();
+        final var className = constantPool.getClassName(in.readUnsignedShort());
+        final var superClassIndex = in.readUnsignedShort();
+        final var superClassName = superClassIndex == 0 ? null : constantPool.getClassName(superClassIndex);
+        final var interfacesCount = in.readUnsignedShort();
+        in.skipNBytes(2L * interfacesCount);
+
+        // Fields
+        final var fieldsCount = in.readUnsignedShort();
+        for (int i = 0; i < fieldsCount; i++) {
+            in.skipNBytes(6);
+            skipAttributes(in);
+        }
+
+        // Methods and constructors
+        final Set<String> constructorAnnotations = new HashSet<>();
+        final Set<String> methodAnnotations = new HashSet<>();
+        int publicConstructors = 0;
+        boolean publicDefaultConstructor = false;
+        final var methodsCount = in.readUnsignedShort();
+        for (int i = 0; i < methodsCount; i++) {
+            final var methodAccessFlags = in.readUnsignedShort();
+            final var name = constantPool.get(in.readUnsignedShort());
+            final var descriptor = constantPool.get(in.readUnsignedShort());
+            if (CONSTRUCTOR_NAME.equals(name)) {
+                readAnnotationAttributes(in, constantPool, constructorAnnotations);
+                if ((methodAccessFlags & ACC_PUBLIC) != 0) {
+                    publicConstructors++;
+                    publicDefaultConstructor = DEFAULT_CONSTRUCTOR_DESCRIPTOR.equals(descriptor);
+                }
+            } else {
+                readAnnotationAttributes(in, constantPool, methodAnnotations);
+            }
+        }
+
+        // Class attributes
+        final Set<String> classAnnotations = new HashSet<>();
+        readAnnotationAttributes(in, constantPool, classAnnotations);
+
+        return new ClassFileInfo(className, accessFlags, superClassName, Set.copyOf(classAnnotations),
+                                 Set.copyOf(constructorAnnotations), Set.copyOf(methodAnnotations),
+                                 publicConstructors == 1 && publicDefaultConstructor);
+    }
+
+    /**
+     * Read the constant pool. Only UTF-8 constants (and the indices of class constants) are kept.
+     *
+     * @param in Class file positioned at the constant pool count
+     * @return Constant pool with UTF-8 constants and class constants (class constants as name index)
+     * @throws IOException If the constant pool cannot be read
+     */
+    private static ConstantPool readConstantPool(DataInputStream in) throws IOException {
+        final var count = in.readUnsignedShort();
+        final var utf8Constants = new String[count];
+        final var classNameIndices = new int[count];
+        for (int i = 1; i < count; i++) {
+            final var tag = in.readUnsignedByte();
+            switch (tag) {
+                // Utf8
+                case 1 -> utf8Constants[i] = in.readUTF();
+                // Class
+                case 7 -> classNameIndices[i] = in.readUnsignedShort();
+                // String, MethodType, Module, Package
+                case 8, 16, 19, 20 -> in.skipNBytes(2);
+                // MethodHandle
+                case 15 -> in.skipNBytes(3);
+                // Integer, Float, Fieldref, Methodref, InterfaceMethodref, NameAndType, Dynamic, InvokeDynamic
+                case 3, 4, 9, 10, 11, 12, 17, 18 -> in.skipNBytes(4);
+                // Long, Double (take two entries in the constant pool)
+                case 5, 6 -> {
+                    in.skipNBytes(8);
+                    i++;
+                }
+                default -> throw new IOException("Unknown constant pool tag " + tag);
+            }
+        }
+        return new ConstantPool(utf8Constants, classNameIndices);
+    }
+
+    private static void skipAttributes(DataInputStream in) throws IOException {
+        final var attributesCount = in.readUnsignedShort();
+        for (int i = 0; i < attributesCount; i++) {
+            in.skipNBytes(2);
+            in.skipNBytes(Integer.toUnsignedLong(in.readInt()));
+        }
+    }
+
+    /**
+     * Read all attributes of a class or method and collect the runtime visible annotation types.
+     *
+     * @param in           Class file positioned at the attributes count
+     * @param constantPool Constant pool of the class file
+     * @param annotations  Set to add the binary names of the annotation types to
+     * @throws IOException If the attributes cannot be read
+     */
+    private static void readAnnotationAttributes(DataInputStream in, ConstantPool constantPool,
+                                                 Set<String> annotations) throws IOException {
+        final var attributesCount = in.readUnsignedShort();
+        for (int i = 0; i < attributesCount; i++) {
+            final var name = constantPool.get(in.readUnsignedShort());
+            final var length = Integer.toUnsignedLong(in.readInt());
+            if (!RUNTIME_VISIBLE_ANNOTATIONS.equals(name)) {
+                in.skipNBytes(length);
+                continue;
+            }
+
+            final var annotationsCount = in.readUnsignedShort();
+            for (int j = 0; j < annotationsCount; j++) {
+                annotations.add(readAnnotation(in, constantPool));
+            }
+        }
+    }
+
+    /**
+     * Read one annotation (with all element values).
+     *
+     * @param in           Class file positioned at the annotation
+     * @param constantPool Constant pool of the class file
+     * @return Binary name of the annotation type
+     * @throws IOException If the annotation cannot be read
+     */
+    private static String readAnnotation(DataInputStream in, ConstantPool constantPool) throws IOException {
+        final var descriptor = constantPool.get(in.readUnsignedShort());
+        final var elementValuePairsCount = in.readUnsignedShort();
+        for (int i = 0; i < elementValuePairsCount; i++) {
+            // Element name
+            in.skipNBytes(2);
+            skipElementValue(in, constantPool);
+        }
+
+        // Descriptor of the annotation type (e.g., "Ljakarta/inject/Inject;")
+        return descriptor.substring(1, descriptor.length() - 1)
+                .replace('/', '.');
+    }
+
+    private static void skipElementValue(DataInputStream in, ConstantPool constantPool) throws IOException {
+        final var tag = in.readUnsignedByte();
+        switch (tag) {
+            // Constant value, class
+            case 'B', 'C', 'D', 'F', 'I', 'J', 'S', 'Z', 's', 'c' -> in.skipNBytes(2);
+            // Enum constant
+            case 'e' -> in.skipNBytes(4);
+            // Nested annotation
+            case '@' -> readAnnotation(in, constantPool);
+            // Array
+            case '[' -> {
+                final var valuesCount = in.readUnsignedShort();
+                for (int i = 0; i < valuesCount; i++) {
+                    skipElementValue(in, constantPool);
+                }
+            }
+            default -> throw new IOException("Unknown element value tag " + tag);
+        }
+    }
+
+    /**
+     * Constant pool of a class file (only UTF-8 and class constants).
+     *
+     * @param utf8Constants    UTF-8 constants by constant pool index
+     * @param classNameIndices Name indices of class constants by constant pool index
+     */
+    private record ConstantPool(String[] utf8Constants, int[] classNameIndices) {
+
+        String get(int index) {
+            return this.utf8Constants[index];
+        }
+
+        String getClassName(int index) {
+            return this.utf8Constants[this.classNameIndices[index]].replace('/', '.');
+        }
+
+    }
+
+    /**
+     * Information about a class read from its class file.
+     *
+     * @param className                Binary name of the class
+     * @param accessFlags              Access flags of the class file
+     * @param superClassName           Binary name of the super class ({@code null} if there is none)
+     * @param classAnnotations         Names of all runtime visible annotation types declared at the class level
+     * @param constructorAnnotations   Names of all runtime visible annotation types at the constructor level
+     * @param methodAnnotations        Names of all runtime visible annotation types at the method level
+     * @param publicDefaultConstructor {@code true} if the class has exactly one public constructor which has no
+     *                                 parameters
+     */
+    record ClassFileInfo(String className, int accessFlags, String superClassName, Set<String> classAnnotations,
+                         Set<String> constructorAnnotations, Set<String> methodAnnotations,
+                         boolean publicDefaultConstructor) {
+
+        /**
+         * Test whether this is a public class.
+         *
+         * @return {@code true} if the class is public, {@code false} otherwise
+         */
+        boolean isPublic() {
+            return (this.accessFlags & ACC_PUBLIC) != 0;
+        }
+
+        /**
+         * Test whether this is a real class (no interface, annotation type or enum type). Enum constants with a body are
+         * real classes.
+         *
+         * @return {@code true} if this is a real class, {@code false} otherwise
+         */
+        boolean isRealClass() {
+            return (this.accessFlags & ACC_INTERFACE) == 0 && ((this.accessFlags & ACC_ENUM) == 0
+                    || !"java.lang.Enum".equals(this.superClassName));
+        }
+
+    }
+
+}
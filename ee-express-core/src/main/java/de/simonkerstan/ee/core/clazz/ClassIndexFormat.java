@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2025 Simon Kerstan
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.simonkerstan.ee.core.clazz;
+
+/**
+ * Format of the class index written at build time by the annotation processor of the
+ * {@code de.simonkerstan:ee-express-processor} module and read by the class scanner.
+ * <p>
+ * The index file is a simple line-based text file:
+ * <pre>
+ * ee-express-index 2
+ * class  [binary class name]  [class annotations]  [constructor annotations]
+ *        [method annotations]  [super class]  [flags]
+ * </pre>
+ * Every class line is a single line (wrapped above for readability). All columns are separated by tabs, and all
+ * annotations and flags are separated by ','. The class annotations include inherited annotations. The super class is
+ * empty for interfaces. The flags are {@value #FLAG_PUBLIC}, {@value #FLAG_INTERFACE} (also for annotation types),
+ * {@value #FLAG_ENUM} and {@value #FLAG_DEFAULT_CONSTRUCTOR} (the class has exactly one public constructor which has no
+ * parameters).
+ * <p>
+ * The constants are inlined by the compiler, so the processor does not need this module at runtime.
+ * <p>
+ * FOR INTERNAL USE ONLY. THE API CAN CHANGE AT ANY TIME.
+ */
+public final class ClassIndexFormat {
+
+    /**
+     * Path of the index file inside a classpath item.
+     */
+    public static final String INDEX_PATH = "META-INF/de-simonkerstan-ee-express/index";
+    /**
+     * First line of the index file.
+     */
+    public static final String HEADER = "ee-express-index 2";
+    /**
+     * First column of all class lines.
+     */
+    public static final String CLASS_LINE = "class";
+    public static final String FLAG_PUBLIC = "public";
+    public static final String FLAG_INTERFACE = "interface";
+    public static final String FLAG_ENUM = "enum";
+    public static final String FLAG_DEFAULT_CONSTRUCTOR = "default-constructor";
+
+    private ClassIndexFormat() {
+    }
+
+}
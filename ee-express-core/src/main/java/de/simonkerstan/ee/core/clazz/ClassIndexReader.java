@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2025 Simon Kerstan
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.simonkerstan.ee.core.clazz;
+
+import de.simonkerstan.ee.core.classpath.ClasspathItem;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Reader for the class index written at build time by the annotation processor of the
+ * {@code de.simonkerstan:ee-express-processor} module (see {@link ClassIndexFormat}).
+ * <p>
+ * Repeated header lines and unknown lines are ignored, so concatenated index files (e.g., in fat jars) can be read,
+ * too.
+ * <p>
+ * FOR INTERNAL USE ONLY. THE API CAN CHANGE AT ANY TIME.
+ */
+@Slf4j
+final class ClassIndexReader {
+
+    private ClassIndexReader() {
+    }
+
+    /**
+     * Read the class index of a classpath item.
+     *
+     * @param classpathItem Single classpath item
+     * @return Indexed classes or empty if the item has no (readable) index
+     */
+    static Optional<List<ScannedClass>> read(ClasspathItem classpathItem) {
+        return read(classpathItem, null);
+    }
+
+    /**
+     * Read the class index of a classpath item.
+     *
+     * @param classpathItem Single classpath item
+     * @param classFilter   Filter of the indexed classes by their class file information (like for scanned class files)
+     *                      or {@code null} to return all indexed classes
+     * @return Indexed classes or empty if the item has no (readable) index
+     */
+    static Optional<List<ScannedClass>> read(ClasspathItem classpathItem,
+                                             Predicate<ClassFileReader.ClassFileInfo> classFilter) {
+        if (!classpathItem.isResourceExisting(ClassIndexFormat.INDEX_PATH)
+                || classpathItem.isDirectory(ClassIndexFormat.INDEX_PATH)) {
+            return Optional.empty();
+        }
+
+        try (final var reader = new BufferedReader(new InputStreamReader(
+                classpathItem.getResourceAsStream(ClassIndexFormat.INDEX_PATH), StandardCharsets.UTF_8))) {
+            return readIndexFile(reader, classFilter);
+        } catch (IOException | RuntimeException e) {
+            // Catch runtime exceptions too because the file could have been corrupted
+            log.warn("Cannot read class index of classpath item {}. Scanning without index.",
+                     classpathItem.getLocation()
+                             .orElse(null), e);
+            return Optional.empty();
+        }
+    }
+
+    private static Optional<List<ScannedClass>> readIndexFile(BufferedReader reader,
+                                                              Predicate<ClassFileReader.ClassFileInfo> classFilter)
+            throws IOException {
+        if (!ClassIndexFormat.HEADER.equals(reader.readLine())) {
+            log.info("Ignoring class index with unknown format");
+            return Optional.empty();
+        }
+
+        final List<ScannedClass> classes = new ArrayList<>();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            final var columns = line.split("\t", -1);
+            if (!ClassIndexFormat.CLASS_LINE.equals(columns[0])) {
+                continue;
+            }
+
+            final var classFileInfo = toClassFileInfo(columns);
+            if (classFilter == null || classFilter.test(classFileInfo)) {
+                classes.add(new ScannedClass(classFileInfo.className(), classFileInfo.classAnnotations(),
+                                             classFileInfo.constructorAnnotations()));
+            }
+        }
+        return Optional.of(classes);
+    }
+
+    /**
+     * Create the class file information of an indexed class (without reading its class file). The class scan cache
+     * uses the same columns.
+     *
+     * @param columns Columns of the class line
+     * @return Class file information
+     */
+    static ClassFileReader.ClassFileInfo toClassFileInfo(String[] columns) {
+        final var flags = splitNames(columns[6]);
+        int accessFlags = 0;
+        if (flags.contains(ClassIndexFormat.FLAG_PUBLIC)) {
+            accessFlags |= ClassFileReader.ACC_PUBLIC;
+        }
+        if (flags.contains(ClassIndexFormat.FLAG_INTERFACE)) {
+            accessFlags |= ClassFileReader.ACC_INTERFACE;
+        }
+        if (flags.contains(ClassIndexFormat.FLAG_ENUM)) {
+            accessFlags |= ClassFileReader.ACC_ENUM;
+        }
+        return new ClassFileReader.ClassFileInfo(columns[1], accessFlags, columns[5].isEmpty() ? null : columns[5],
+                                                 splitNames(columns[2]), splitNames(columns[3]),
+                                                 splitNames(columns[4]),
+                                                 flags.contains(ClassIndexFormat.FLAG_DEFAULT_CONSTRUCTOR));
+    }
+
+    private static Set<String> splitNames(String names) {
+        if (names.isEmpty()) {
+            return Set.of();
+        }
+        return Set.copyOf(Arrays.asList(names.split(",")));
+    }
+
+}
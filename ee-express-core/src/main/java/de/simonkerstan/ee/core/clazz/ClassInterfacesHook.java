@@ -21,4 +21,15 @@ public interface ClassInterfacesHook {
      */
     void processClassInterfaces(Class<?> clazz, Class<?>[] interfaces);
 
+    /**
+     * Test whether this hook only processes public classes with exactly one public constructor without parameters. Such
+     * classes can be detected without loading them, so other classes are not loaded for this hook while scanning.
+     *
+     * @return {@code true} if only classes with a public default constructor are processed, {@code false} if all
+     * classes are processed
+     */
+    default boolean isDefaultConstructorRequired() {
+        return false;
+    }
+
 }
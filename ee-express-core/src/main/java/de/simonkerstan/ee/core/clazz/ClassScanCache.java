@@ -0,0 +1,271 @@
+/*
+ * Copyright (c) 2025 Simon Kerstan
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.simonkerstan.ee.core.clazz;
+
+import de.simonkerstan.ee.core.classpath.ClasspathItem;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * Persistent cache for class scanning results. The results are stored per classpath item and keyed by a fingerprint
+ * of the item (location, size and last modification time). Only jar files are cached because directories can change
+ * without changing their own fingerprint.
+ * <p>
+ * The cache holds the class file information of all scanned class files (not only of the loaded classes), so the
+ * classes can be filtered like scanned class files even if the registered hooks change until the next scan. The cache
+ * file is a simple line-based text file:
+ * <pre>
+ * ee-express-class-scan-cache 2
+ * scan-packages  [scan packages separated by ';']
+ * entry          [location]  [size]  [last modification time]
+ * class          [class columns like in the class index]
+ * </pre>
+ * All columns are separated by tabs and all class lines belong to the preceding entry line. The class lines have the
+ * same columns as the class lines of the build-time class index (see {@link ClassIndexFormat}), but the class
+ * annotations only contain the annotations declared by the class itself (like in its class file).
+ * <p>
+ * FOR INTERNAL USE ONLY. THE API CAN CHANGE AT ANY TIME.
+ */
+@Slf4j
+final class ClassScanCache {
+
+    private static final String CACHE_FILE_NAME = "class-scan.cache";
+    private static final String HEADER = "ee-express-class-scan-cache 2";
+    private static final String SCAN_PACKAGES_LINE = "scan-packages";
+    private static final String ENTRY_LINE = "entry";
+    private static final String CLASS_LINE = "class";
+
+    private final Path cacheFile;
+    private final String scanPackages;
+    /**
+     * Entries loaded from the cache file. (location -> entry)
+     */
+    private final Map<String, CacheEntry> loadedEntries = new HashMap<>();
+    /**
+     * Entries to be written to the cache file. (location -> entry)
+     */
+    private final Map<String, CacheEntry> currentEntries = new LinkedHashMap<>();
+
+    /**
+     * Create a new class scan cache.
+     *
+     * @param cacheDirectory Directory of the cache file
+     * @param scanPackages   Scanned packages (a cache file for other packages is ignored)
+     */
+    ClassScanCache(Path cacheDirectory, String[] scanPackages) {
+        this.cacheFile = cacheDirectory.resolve(CACHE_FILE_NAME);
+        this.scanPackages = String.join(";", scanPackages);
+    }
+
+    /**
+     * Load the cache file. If the file does not exist or cannot be read, the cache is empty.
+     */
+    void load() {
+        if (!Files.isRegularFile(this.cacheFile)) {
+            log.debug("No class scan cache found at {}", this.cacheFile);
+            return;
+        }
+
+        try (final var reader = Files.newBufferedReader(this.cacheFile, StandardCharsets.UTF_8)) {
+            this.readCacheFile(reader);
+            log.debug("Loaded {} class scan cache entries from {}", this.loadedEntries.size(), this.cacheFile);
+        } catch (IOException | RuntimeException e) {
+            // Catch runtime exceptions too because the file could have been corrupted
+            log.warn("Cannot read class scan cache {}. Scanning without cache.", this.cacheFile, e);
+            this.loadedEntries.clear();
+        }
+    }
+
+    /**
+     * Get the names of the cached classes of a classpath item accepted by the filter. The cached classes are only
+     * returned if the item is unchanged since the cache file was written. All cached classes (also the ones not
+     * accepted by the filter) are kept for the next cache file.
+     *
+     * @param classpathItem Single classpath item
+     * @param classFilter   Filter of the cached classes by their class file information
+     * @return Names of the accepted classes in cache order or empty if the item is not cached or changed
+     */
+    Optional<List<String>> getClassNames(ClasspathItem classpathItem,
+                                         Predicate<ClassFileReader.ClassFileInfo> classFilter) {
+        return fingerprint(classpathItem).flatMap(fingerprint -> {
+            final var entry = this.loadedEntries.get(fingerprint.location());
+            if (entry == null || !entry.fingerprint()
+                    .equals(fingerprint)) {
+                return Optional.empty();
+            }
+
+            this.currentEntries.put(fingerprint.location(), entry);
+            return Optional.of(entry.classes()
+                                       .stream()
+                                       .filter(classFilter)
+                                       .map(ClassFileReader.ClassFileInfo::className)
+                                       .toList());
+        });
+    }
+
+    /**
+     * Put the scanned class files of a classpath item into the cache. Items that cannot be cached are ignored.
+     *
+     * @param classpathItem Single classpath item
+     * @param classFiles    Information of all scanned class files of the item
+     */
+    void putClassFiles(ClasspathItem classpathItem, List<ClassFileReader.ClassFileInfo> classFiles) {
+        fingerprint(classpathItem).ifPresent(
+                fingerprint -> this.currentEntries.put(fingerprint.location(),
+                                                       new CacheEntry(fingerprint, List.copyOf(classFiles))));
+    }
+
+    /**
+     * Test whether a classpath item can be cached.
+     *
+     * @param classpathItem Single classpath item
+     * @return {@code true} if the item can be cached, {@code false} otherwise
+     */
+    boolean isCacheable(ClasspathItem classpathItem) {
+        return classpathItem.getLocation()
+                .filter(Files::isRegularFile)
+                .isPresent();
+    }
+
+    /**
+     * Write all entries of this scan to the cache file. Entries of items that are no longer on the classpath are
+     * dropped.
+     */
+    void save() {
+        final var lines = new ArrayList<String>();
+        lines.add(HEADER);
+        lines.add(String.join("\t", SCAN_PACKAGES_LINE, this.scanPackages));
+        this.currentEntries.values()
+                .forEach(entry -> {
+                    final var fingerprint = entry.fingerprint();
+                    lines.add(String.join("\t", ENTRY_LINE, fingerprint.location(), Long.toString(fingerprint.size()),
+                                          Long.toString(fingerprint.lastModified())));
+                    entry.classes()
+                            .forEach(classFile -> lines.add(toClassLine(classFile)));
+                });
+
+        try {
+            Files.createDirectories(this.cacheFile.getParent());
+            // Write to a temporary file first to never leave a partially written cache file
+            final var temporaryFile = Files.createTempFile(this.cacheFile.getParent(), CACHE_FILE_NAME, ".tmp");
+            Files.write(temporaryFile, lines, StandardCharsets.UTF_8);
+            Files.move(temporaryFile, this.cacheFile, StandardCopyOption.REPLACE_EXISTING,
+                       StandardCopyOption.ATOMIC_MOVE);
+            log.debug("Wrote {} class scan cache entries to {}", this.currentEntries.size(), this.cacheFile);
+        } catch (IOException e) {
+            log.warn("Cannot write class scan cache {}", this.cacheFile, e);
+        }
+    }
+
+    private void readCacheFile(BufferedReader reader) throws IOException {
+        if (!HEADER.equals(reader.readLine())) {
+            log.info("Ignoring class scan cache {} with unknown format", this.cacheFile);
+            return;
+        }
+        final var scanPackagesLine = reader.readLine();
+        if (scanPackagesLine == null || !scanPackagesLine.equals(
+                String.join("\t", SCAN_PACKAGES_LINE, this.scanPackages))) {
+            log.info("Ignoring class scan cache {} for other scan packages", this.cacheFile);
+            return;
+        }
+
+        Fingerprint fingerprint = null;
+        List<ClassFileReader.ClassFileInfo> classes = null;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            final var columns = line.split("\t", -1);
+            if (ENTRY_LINE.equals(columns[0])) {
+                if (fingerprint != null) {
+                    this.loadedEntries.put(fingerprint.location(), new CacheEntry(fingerprint, List.copyOf(classes)));
+                }
+                fingerprint = new Fingerprint(columns[1], Long.parseLong(columns[2]), Long.parseLong(columns[3]));
+                classes = new ArrayList<>();
+            } else if (CLASS_LINE.equals(columns[0]) && classes != null) {
+                classes.add(ClassIndexReader.toClassFileInfo(columns));
+            }
+        }
+        if (fingerprint != null) {
+            this.loadedEntries.put(fingerprint.location(), new CacheEntry(fingerprint, List.copyOf(classes)));
+        }
+    }
+
+    /**
+     * Create the class line of a class file (with the columns of the class index).
+     *
+     * @param classFile Class file information
+     * @return Class line
+     */
+    private static String toClassLine(ClassFileReader.ClassFileInfo classFile) {
+        final List<String> flags = new ArrayList<>();
+        if (classFile.isPublic()) {
+            flags.add(ClassIndexFormat.FLAG_PUBLIC);
+        }
+        if ((classFile.accessFlags() & ClassFileReader.ACC_INTERFACE) != 0) {
+            flags.add(ClassIndexFormat.FLAG_INTERFACE);
+        }
+        if ((classFile.accessFlags() & ClassFileReader.ACC_ENUM) != 0) {
+            flags.add(ClassIndexFormat.FLAG_ENUM);
+        }
+        if (classFile.publicDefaultConstructor()) {
+            flags.add(ClassIndexFormat.FLAG_DEFAULT_CONSTRUCTOR);
+        }
+        return String.join("\t", CLASS_LINE, classFile.className(), String.join(",", classFile.classAnnotations()),
+                           String.join(",", classFile.constructorAnnotations()),
+                           String.join(",", classFile.methodAnnotations()),
+                           Objects.requireNonNullElse(classFile.superClassName(), ""), String.join(",", flags));
+    }
+
+    private Optional<Fingerprint> fingerprint(ClasspathItem classpathItem) {
+        if (!this.isCacheable(classpathItem)) {
+            return Optional.empty();
+        }
+
+        final var location = classpathItem.getLocation()
+                .orElseThrow();
+        try {
+            return Optional.of(new Fingerprint(location.toString(), Files.size(location),
+                                               Files.getLastModifiedTime(location)
+                                                       .toMillis()));
+        } catch (IOException e) {
+            log.debug("Cannot get fingerprint of classpath item {}", location, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Fingerprint of a classpath item to detect changes.
+     *
+     * @param location     Location of the item
+     * @param size         Size of the item in bytes
+     * @param lastModified Last modification time of the item in milliseconds
+     */
+    private record Fingerprint(String location, long size, long lastModified) {
+    }
+
+    /**
+     * Cached scanning result of one classpath item.
+     *
+     * @param fingerprint Fingerprint of the item
+     * @param classes     Information of all scanned class files of the item
+     */
+    private record CacheEntry(Fingerprint fingerprint, List<ClassFileReader.ClassFileInfo> classes) {
+    }
+
+}
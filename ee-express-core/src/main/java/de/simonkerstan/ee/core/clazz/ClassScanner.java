@@ -10,8 +10,15 @@ import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 import java.lang.annotation.Annotation;
+import java.lang.annotation.Inherited;
+import java.lang.reflect.Constructor;
+import java.nio.file.Path;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /**
  * Class scanner to find all relevant classes.
@@ -28,6 +35,9 @@ public class ClassScanner {
     private final List<ClassInterfacesHook> classInterfacesHooks = new LinkedList<>();
     private final Map<Class<? extends Annotation>, List<ConstructorHook>> constructorHooks = new HashMap<>();
     private final Map<Class<? extends Annotation>, List<MethodHook>> methodHooks = new HashMap<>();
+    private ClassScanCache scanCache;
+    private int parallelism = 1;
+    private boolean classIndexEnabled = true;
 
     /**
      * Create a new class scanner.
@@ -81,68 +91,430 @@ public class ClassScanner {
                         .add(hook));
     }
 
+    /**
+     * Enable the persistent class scan cache. Unchanged jar files on the classpath are not scanned again but their
+     * classes and annotations are read from the cache.
+     *
+     * @param cacheDirectory Directory of the cache file
+     */
+    public void enableScanCache(Path cacheDirectory) {
+        this.scanCache = new ClassScanCache(cacheDirectory, this.scanPackages);
+    }
+
+    /**
+     * Disable the build-time class index. All classpath items are scanned (or read from the cache) even if they contain
+     * an index (e.g., if the index is outdated after a partial build).
+     */
+    public void disableClassIndex() {
+        this.classIndexEnabled = false;
+    }
+
+    /**
+     * Enable the parallel class scanning. Package trees are walked and classes are loaded and reflected concurrently,
+     * but all hooks are still called sequentially (in the same order as in a sequential scan) by the scanning thread.
+     * Hooks do not need to be thread-safe.
+     *
+     * @param parallelism Number of threads used for scanning ({@code 1} or less scans sequentially, like the classpath
+     *                    parallelism)
+     */
+    public void enableParallelScan(int parallelism) {
+        this.parallelism = Math.max(parallelism, 1);
+    }
+
     /**
      * Scan over all classes and methods and call the registered hooks.
+     * <p>
+     * Every single classpath item is handled on its own: If the item contains a class index (written at build time by
+     * the annotation processor) and the index is not disabled, the hooks are fed from the index. Otherwise, the cached
+     * scanning result is used (if the cache is enabled and the item is unchanged) or the bootstrap packages of the item
+     * are scanned.
      */
     public void scan() {
-        final var hasClassHooks = !this.classHooks.isEmpty();
-        final var hasClassInterfacesHooks = !this.classInterfacesHooks.isEmpty();
-        final var hasConstructorHooks = !this.constructorHooks.isEmpty();
-        final var hasMethodHooks = !this.methodHooks.isEmpty();
-        Arrays.stream(this.scanPackages)
-                .map(scanPackage -> new RecursivePackageClassIterator(scanPackage, this.classpathItem))
-                .forEach(iterator -> iterator.forEachRemaining(clazz -> {
-                    if (hasClassHooks) {
-                        // Call class hooks
-                        log.debug("Processing annotations of class {}", clazz.getName());
-                        final var classAnnotationsWithType = Arrays.stream(clazz.getAnnotations())
-                                .collect(Collectors.toUnmodifiableMap(Annotation::annotationType,
-                                                                      annotation -> annotation));
-                        classAnnotationsWithType.forEach((key, value) -> {
-                            Optional.ofNullable(this.classHooks.get(key))
-                                    // If there are no hooks for the annotation, return an empty list
-                                    .orElse(List.of())
-                                    .forEach(hook -> hook.processClass(clazz, key, value));
-                        });
-                    }
-
-                    if (hasClassInterfacesHooks) {
-                        // Call class interfaces hooks
-                        log.debug("Processing interfaces of class {}", clazz.getName());
-                        if (!clazz.isInterface() && !clazz.isArray() && !clazz.isEnum() && !clazz.isPrimitive()) {
-                            this.classInterfacesHooks.forEach(
-                                    hook -> hook.processClassInterfaces(clazz, clazz.getInterfaces()));
+        if (this.scanCache != null) {
+            this.scanCache.load();
+        }
+
+        final var pool = this.parallelism > 1 ? new ForkJoinPool(this.parallelism) : null;
+        try {
+            this.scanClasspathItems(pool);
+        } finally {
+            if (pool != null) {
+                pool.shutdown();
+            }
+        }
+
+        if (this.scanCache != null) {
+            this.scanCache.save();
+        }
+    }
+
+    /**
+     * Scan all single classpath items.
+     *
+     * @param pool Pool for parallel scanning ({@code null} to scan sequentially)
+     */
+    private void scanClasspathItems(ForkJoinPool pool) {
+        final Set<String> processedClasses = new HashSet<>();
+        final Set<String> foundPackages = new HashSet<>();
+        for (final var item : this.classpathItem.getSingleItems()) {
+            // Indexed classes are filtered like scanned class files, so classes not needed by any hook are not loaded
+            final var indexedClasses = this.classIndexEnabled
+                    ? ClassIndexReader.read(item, this::isClassRequired) : Optional.<List<ScannedClass>>empty();
+            if (indexedClasses.isPresent()) {
+                // Build-time index, no directory walking and annotation discovery needed
+                log.debug("Using class index of classpath item {}", item.getLocation()
+                        .orElse(null));
+                final var knownClasses = indexedClasses.get()
+                        .stream()
+                        .filter(indexedClass -> this.isInScanPackages(indexedClass.className(), foundPackages))
+                        .filter(indexedClass -> processedClasses.add(indexedClass.className()))
+                        .toList();
+                this.reflectClasses(pool, knownClasses, this::reflectKnownClass)
+                        .forEach(this::dispatchClass);
+                continue;
+            }
+
+            // Cached classes are filtered like scanned class files, so classes not needed by any hook are not loaded
+            final var cachedClasses = Optional.ofNullable(this.scanCache)
+                    .flatMap(scanCache -> scanCache.getClassNames(item, this::isClassRequired));
+            if (cachedClasses.isPresent()) {
+                // Unchanged item, no directory walking and class file reading needed
+                log.debug("Using cached scan result for classpath item {}", item.getLocation()
+                        .orElseThrow());
+                final var knownClasses = cachedClasses.get()
+                        .stream()
+                        .filter(className -> this.isInScanPackages(className, foundPackages))
+                        .filter(processedClasses::add)
+                        .toList();
+                this.reflectClasses(pool, knownClasses, this::reflectCachedClass)
+                        .forEach(this::dispatchClass);
+                continue;
+            }
+
+            // Cached items remember all class files because the hooks could change until the next scan, but only the
+            // classes needed by the hooks are loaded
+            final Map<String, ClassFileReader.ClassFileInfo> classFiles =
+                    this.scanCache != null && this.scanCache.isCacheable(item) ? new ConcurrentHashMap<>() : null;
+            final Predicate<ClassFileReader.ClassFileInfo> classFilter = classFiles == null
+                    ? this::isClassRequired : classFileInfo -> {
+                classFiles.put(classFileInfo.className(), classFileInfo);
+                return this.isClassRequired(classFileInfo);
+            };
+            final List<String> dispatchedClasses = new ArrayList<>();
+            for (final var scanPackage : this.scanPackages) {
+                if (!item.isResourceExisting(scanPackage.replace('.', '/'))) {
+                    // Only walk packages contained in this item
+                    continue;
+                }
+
+                foundPackages.add(scanPackage);
+                if (pool == null) {
+                    new RecursivePackageClassIterator(scanPackage, item, classFilter).forEachRemaining(clazz -> {
+                        if (processedClasses.add(clazz.getName())) {
+                            this.dispatchClass(this.reflectClass(clazz));
+                            dispatchedClasses.add(clazz.getName());
                         }
-                    }
-
-                    if (hasConstructorHooks) {
-                        // Call constructor hooks
-                        Arrays.stream(clazz.getDeclaredConstructors())
-                                .filter(constructor -> constructor.canAccess(null))
-                                .forEach(constructor -> {
-                                    log.debug("Processing annotations of constructor ({}) of class {}",
-                                              Arrays.toString(constructor.getParameters()), clazz.getName());
-                                    final var constructorAnnotationsWithType = Arrays.stream(
-                                                    constructor.getAnnotations())
-                                            .collect(Collectors.toUnmodifiableMap(Annotation::annotationType,
-                                                                                  annotation -> annotation));
-                                    constructorAnnotationsWithType.forEach((key, value) -> {
-                                        Optional.ofNullable(this.constructorHooks.get(key))
-                                                // If there are no hooks for the annotation, return an empty list
-                                                .orElse(List.of())
-                                                .forEach(hook -> hook.processConstructor(constructor, key, value));
-                                    });
-                                });
-                    }
-
-                    if (hasMethodHooks) {
-                        // Call method hooks
-                        Arrays.stream(clazz.getDeclaredMethods())
-                                .forEach(method -> {
-                                    // TODO: implement
-                                });
-                    }
-                }));
+                    });
+                } else {
+                    // Walk the package tree and load all classes in parallel (in the order of a sequential walk)
+                    final var classes = pool.invoke(new PackageScanTask(scanPackage, item, classFilter))
+                            .stream()
+                            .filter(clazz -> processedClasses.add(clazz.getName()))
+                            .toList();
+                    this.reflectClasses(pool, classes, clazz -> Optional.of(this.reflectClass(clazz)))
+                            .forEach(reflectedClass -> {
+                                this.dispatchClass(reflectedClass);
+                                dispatchedClasses.add(reflectedClass.clazz()
+                                                              .getName());
+                            });
+                }
+            }
+            if (classFiles != null) {
+                this.cacheClassFiles(item, classFiles, dispatchedClasses);
+            }
+        }
+
+        Arrays.stream(this.scanPackages)
+                .filter(scanPackage -> !foundPackages.contains(scanPackage))
+                .forEach(scanPackage -> log.info("Package {} does not exist in classpath", scanPackage));
+    }
+
+    /**
+     * Put the scanned class files of a classpath item into the cache. The dispatched classes come first (in dispatch
+     * order), so an unchanged item dispatches its classes in the same order on the next scan.
+     *
+     * @param item              Single classpath item
+     * @param classFiles        Information of all scanned class files of the item (class name -> information)
+     * @param dispatchedClasses Names of all dispatched classes of the item in dispatch order
+     */
+    private void cacheClassFiles(ClasspathItem item, Map<String, ClassFileReader.ClassFileInfo> classFiles,
+                                 List<String> dispatchedClasses) {
+        final List<ClassFileReader.ClassFileInfo> cachedClassFiles = new ArrayList<>(classFiles.size());
+        for (final var className : dispatchedClasses) {
+            final var classFile = classFiles.remove(className);
+            if (classFile == null) {
+                // The class file could not be read, so the class could not be filtered on the next scan
+                log.debug("Not caching classpath item {} because class file of {} cannot be read",
+                          item.getLocation()
+                                  .orElse(null), className);
+                return;
+            }
+            cachedClassFiles.add(classFile);
+        }
+        classFiles.values()
+                .stream()
+                .sorted(Comparator.comparing(ClassFileReader.ClassFileInfo::className))
+                .forEach(cachedClassFiles::add);
+        this.scanCache.putClassFiles(item, cachedClassFiles);
+    }
+
+    /**
+     * Reflect over classes. In parallel mode, all classes are reflected concurrently before the result is returned.
+     * Otherwise, every class is reflected lazily when the result stream is consumed.
+     *
+     * @param pool      Pool for parallel scanning ({@code null} to reflect sequentially)
+     * @param classes   Classes to be reflected
+     * @param reflector Reflection function (returns empty if a class cannot be reflected)
+     * @param <T>       Type of the classes to be reflected
+     * @return Reflected classes in the same order as the given classes
+     */
+    private <T> Stream<ReflectedClass> reflectClasses(ForkJoinPool pool, List<T> classes,
+                                                      Function<T, Optional<ReflectedClass>> reflector) {
+        if (pool == null) {
+            return classes.stream()
+                    .map(reflector)
+                    .flatMap(Optional::stream);
+        }
+
+        // The parallel stream runs in the given pool because it is started from a task of that pool
+        return pool.submit(() -> classes.parallelStream()
+                        .map(reflector)
+                        .flatMap(Optional::stream)
+                        .toList())
+                .join()
+                .stream();
+    }
+
+    /**
+     * Test whether a class is needed by any registered hook (decided by its class file without loading the class).
+     *
+     * @param classFileInfo Information read from the class file
+     * @return {@code true} if the class must be loaded and processed, {@code false} otherwise
+     */
+    private boolean isClassRequired(ClassFileReader.ClassFileInfo classFileInfo) {
+        if (this.hasRegisteredAnnotation(this.classHooks.keySet(), classFileInfo.classAnnotations())
+                || this.hasRegisteredAnnotation(this.constructorHooks.keySet(), classFileInfo.constructorAnnotations())
+                || this.hasRegisteredAnnotation(this.methodHooks.keySet(), classFileInfo.methodAnnotations())) {
+            return true;
+        }
+
+        final var superClassName = classFileInfo.superClassName();
+        if (superClassName != null && !Object.class.getName()
+                .equals(superClassName) && this.classHooks.keySet()
+                .stream()
+                .anyMatch(annotationType -> annotationType.isAnnotationPresent(Inherited.class))) {
+            // Inherited annotations are not visible in the class file of a subclass
+            return true;
+        }
+
+        if (!this.classInterfacesHooks.isEmpty() && classFileInfo.isRealClass()) {
+            return this.classInterfacesHooks.stream()
+                    .anyMatch(hook -> !hook.isDefaultConstructorRequired()) || classFileInfo.isPublic()
+                    && classFileInfo.publicDefaultConstructor();
+        }
+        return false;
+    }
+
+    private boolean hasRegisteredAnnotation(Set<Class<? extends Annotation>> registeredAnnotations,
+                                            Set<String> annotations) {
+        if (annotations.isEmpty()) {
+            return false;
+        }
+        return registeredAnnotations.stream()
+                .map(Class::getName)
+                .anyMatch(annotations::contains);
+    }
+
+    /**
+     * Test whether a class belongs to one of the scanned packages (or their subpackages).
+     *
+     * @param className     Binary class name
+     * @param foundPackages Scanned packages found so far (the matching package is added)
+     * @return {@code true} if the class is in the scanned packages, {@code false} otherwise
+     */
+    private boolean isInScanPackages(String className, Set<String> foundPackages) {
+        for (final var scanPackage : this.scanPackages) {
+            if (className.startsWith(scanPackage + ".")) {
+                foundPackages.add(scanPackage);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Reflect over one class whose annotations are already known (from the class index or the cache). Only the known
+     * annotations with registered hooks are read, so there is no need to reflect over all annotations and
+     * constructors. This method does not call any hook and can be called concurrently.
+     *
+     * @param scannedClass Known class with its annotations
+     * @return Reflected class or empty if the class cannot be found
+     */
+    private Optional<ReflectedClass> reflectKnownClass(ScannedClass scannedClass) {
+        final Class<?> clazz;
+        try {
+            // Do not run static initializers while scanning
+            clazz = Class.forName(scannedClass.className(), false, ClassScanner.class.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            log.warn("Cannot find class {}", scannedClass.className(), e);
+            return Optional.empty();
+        }
+
+        final List<Annotation> classAnnotations = new ArrayList<>();
+        this.classHooks.keySet()
+                .stream()
+                .filter(annotationType -> scannedClass.classAnnotations()
+                        .contains(annotationType.getName()))
+                .map(clazz::getAnnotation)
+                .filter(Objects::nonNull)
+                .forEach(classAnnotations::add);
+
+        List<ReflectedConstructor> constructors = List.of();
+        if (this.constructorHooks.keySet()
+                .stream()
+                .map(Class::getName)
+                .anyMatch(scannedClass.constructorAnnotations()::contains)) {
+            // Only reflect over constructors if any of them has a registered annotation
+            constructors = reflectConstructors(clazz);
+        }
+
+        return Optional.of(new ReflectedClass(clazz, classAnnotations, this.reflectInterfaces(clazz), constructors));
+    }
+
+    /**
+     * Reflect over one class from the class scan cache. The cache only knows the annotations declared in the class
+     * file (not the inherited ones), so the class is reflected like a scanned class. This method does not call any
+     * hook and can be called concurrently.
+     *
+     * @param className Binary name of the cached class
+     * @return Reflected class or empty if the class cannot be found
+     */
+    private Optional<ReflectedClass> reflectCachedClass(String className) {
+        try {
+            // Do not run static initializers while scanning
+            return Optional.of(this.reflectClass(Class.forName(className, false, ClassScanner.class.getClassLoader())));
+        } catch (ClassNotFoundException e) {
+            log.warn("Cannot find class {}", className, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Reflect over one class. This method does not call any hook and can be called concurrently.
+     *
+     * @param clazz Class to be reflected
+     * @return Reflected class
+     */
+    private ReflectedClass reflectClass(Class<?> clazz) {
+        List<Annotation> classAnnotations = List.of();
+        if (!this.classHooks.isEmpty()) {
+            classAnnotations = List.of(clazz.getAnnotations());
+        }
+
+        List<ReflectedConstructor> constructors = List.of();
+        if (!this.constructorHooks.isEmpty()) {
+            constructors = reflectConstructors(clazz);
+        }
+
+        return new ReflectedClass(clazz, classAnnotations, this.reflectInterfaces(clazz), constructors);
+    }
+
+    private Class<?>[] reflectInterfaces(Class<?> clazz) {
+        if (this.classInterfacesHooks.isEmpty() || clazz.isInterface() || clazz.isArray() || clazz.isEnum()
+                || clazz.isPrimitive()) {
+            // Class interfaces hooks are only called for real classes
+            return null;
+        }
+        return clazz.getInterfaces();
+    }
+
+    /**
+     * Reflect over all accessible constructors of a class.
+     *
+     * @param clazz Class to be reflected
+     * @return Accessible constructors with their annotations
+     */
+    private static List<ReflectedConstructor> reflectConstructors(Class<?> clazz) {
+        return Arrays.stream(clazz.getDeclaredConstructors())
+                .filter(constructor -> constructor.canAccess(null))
+                .map(constructor -> new ReflectedConstructor(constructor, List.of(constructor.getAnnotations())))
+                .toList();
+    }
+
+    /**
+     * Call all registered hooks for one reflected class. This method must only be called by the scanning thread.
+     *
+     * @param reflectedClass Reflected class
+     */
+    private void dispatchClass(ReflectedClass reflectedClass) {
+        final var clazz = reflectedClass.clazz();
+
+        // Call class hooks
+        log.debug("Processing annotations of class {}", clazz.getName());
+        reflectedClass.classAnnotations()
+                .forEach(annotation -> this.classHooks.getOrDefault(annotation.annotationType(), List.of())
+                        .forEach(hook -> hook.processClass(clazz, annotation.annotationType(), annotation)));
+
+        // Call class interfaces hooks
+        if (reflectedClass.interfaces() != null) {
+            log.debug("Processing interfaces of class {}", clazz.getName());
+            this.classInterfacesHooks.forEach(
+                    hook -> hook.processClassInterfaces(clazz, reflectedClass.interfaces()));
+        }
+
+        // Call constructor hooks
+        reflectedClass.constructors()
+                .forEach(reflectedConstructor -> {
+                    final var constructor = reflectedConstructor.constructor();
+                    log.debug("Processing annotations of constructor ({}) of class {}",
+                              Arrays.toString(constructor.getParameters()), clazz.getName());
+                    reflectedConstructor.annotations()
+                            .forEach(annotation -> this.constructorHooks.getOrDefault(annotation.annotationType(),
+                                                                                      List.of())
+                                    .forEach(hook -> hook.processConstructor(constructor, annotation.annotationType(),
+                                                                             annotation)));
+                });
+
+        if (!this.methodHooks.isEmpty()) {
+            // Call method hooks
+            Arrays.stream(clazz.getDeclaredMethods())
+                    .forEach(method -> {
+                        // TODO: implement
+                    });
+        }
+    }
+
+    /**
+     * Reflection result of one class. Classes can be reflected concurrently, but the result is always dispatched to
+     * the hooks by the scanning thread.
+     *
+     * @param clazz            Reflected class
+     * @param classAnnotations Annotations at the class level (in declaration order)
+     * @param interfaces       Directly implemented interfaces ({@code null} if the class interfaces hooks must not be
+     *                         called)
+     * @param constructors     Accessible constructors with their annotations
+     */
+    private record ReflectedClass(Class<?> clazz, List<Annotation> classAnnotations, Class<?>[] interfaces,
+                                  List<ReflectedConstructor> constructors) {
+    }
+
+    /**
+     * Reflection result of one accessible constructor.
+     *
+     * @param constructor Reflected constructor
+     * @param annotations Annotations of the constructor (in declaration order)
+     */
+    private record ReflectedConstructor(Constructor<?> constructor, List<Annotation> annotations) {
     }
 
 }
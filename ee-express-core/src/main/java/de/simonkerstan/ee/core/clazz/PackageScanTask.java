@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2025 Simon Kerstan
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.simonkerstan.ee.core.clazz;
+
+import de.simonkerstan.ee.core.classpath.ClasspathItem;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Predicate;
+
+/**
+ * Fork/join task to walk a package tree and load all contained classes in parallel. Every subpackage and every class
+ * file is handled by its own subtask. The result has the same order as the result of a
+ * {@link RecursivePackageClassIterator} for the same package, so parallel scanning stays deterministic.
+ * <p>
+ * FOR INTERNAL USE ONLY. THE API CAN CHANGE AT ANY TIME.
+ */
+@Slf4j
+@RequiredArgsConstructor
+final class PackageScanTask extends RecursiveTask<List<Class<?>>> {
+
+    private final String packageName;
+    private final ClasspathItem classpathItem;
+    /**
+     * Filter for class files deciding whether a class is loaded ({@code null} to load all classes).
+     */
+    private final Predicate<ClassFileReader.ClassFileInfo> classFilter;
+
+    @Override
+    protected List<Class<?>> compute() {
+        final var packagePath = this.packageName.replace('.', '/');
+        if (!this.classpathItem.isResourceExisting(packagePath)) {
+            log.info("Package {} does not exist in classpath", this.packageName);
+            return List.of();
+        }
+
+        final List<ForkJoinTask<List<Class<?>>>> subtasks = this.classpathItem.getChildren(packagePath)
+                .stream()
+                .map(this::createSubtask)
+                .toList();
+        invokeAll(subtasks);
+        return subtasks.stream()
+                .map(ForkJoinTask::join)
+                .flatMap(List::stream)
+                .toList();
+    }
+
+    private ForkJoinTask<List<Class<?>>> createSubtask(String elementName) {
+        if (elementName.endsWith(".class")) {
+            // Class file
+            return ForkJoinTask.adapt(
+                    () -> RecursivePackageClassIterator.loadClass(this.classpathItem, this.packageName, elementName,
+                                                                  this.classFilter)
+                            .<List<Class<?>>>map(List::of)
+                            .orElse(List.of()));
+        }
+
+        // Subpackage
+        return new PackageScanTask(this.packageName + "." + elementName, this.classpathItem, this.classFilter);
+    }
+
+}
@@ -8,12 +8,23 @@ package de.simonkerstan.ee.core.clazz;
 import de.simonkerstan.ee.core.classpath.ClasspathItem;
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.Iterator;
-import java.util.LinkedList;
-import java.util.Queue;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.function.Predicate;
 
 /**
- * Recursive package iterator to get all contained classes.
+ * Recursive package iterator to get all contained classes. All classes are loaded without being initialized.
+ * <p>
+ * The package tree is walked lazily (depth-first): Only the directories on the path to the current class are resolved
+ * and every class is loaded when it is requested. So, the classes can already be processed while the walk is still
+ * running, and the iterator never holds more than one class.
+ * <p>
+ * Optionally, the class files can be filtered before loading the classes, so classes not needed by anyone are never
+ * loaded.
  * <p>
  * FOR INTERNAL USE ONLY. THE API CAN CHANGE AT ANY TIME.
  */
@@ -21,53 +32,146 @@ import java.util.Queue;
 final class RecursivePackageClassIterator implements Iterator<Class<?>> {
 
     private final ClasspathItem classpathItem;
-    private final Queue<Class<?>> nextClasses = new LinkedList<>();
+    private final Predicate<ClassFileReader.ClassFileInfo> classFilter;
+    /**
+     * Stack of all packages on the path to the current element (the current package is on top).
+     */
+    private final Deque<PackageFrame> packageFrames = new ArrayDeque<>();
+    /**
+     * Next class to be returned ({@code null} if it is not looked up yet or there is none).
+     */
+    private Class<?> nextClass;
 
     public RecursivePackageClassIterator(String rootPackageName, ClasspathItem classpathItem) {
+        this(rootPackageName, classpathItem, null);
+    }
+
+    /**
+     * Create a new recursive package iterator.
+     *
+     * @param rootPackageName Root package to be iterated
+     * @param classpathItem   Classpath item containing the package
+     * @param classFilter     Filter for class files deciding whether a class is loaded ({@code null} to load all
+     *                        classes)
+     */
+    public RecursivePackageClassIterator(String rootPackageName, ClasspathItem classpathItem,
+                                         Predicate<ClassFileReader.ClassFileInfo> classFilter) {
         this.classpathItem = classpathItem;
+        this.classFilter = classFilter;
 
-        // Populate the queue with all recursive subpackages
-        this.processPackage(rootPackageName);
+        // Only the root package is resolved here, all subpackages are resolved while iterating
+        this.pushPackage(rootPackageName);
     }
 
     @Override
     public boolean hasNext() {
-        return !this.nextClasses.isEmpty();
+        if (this.nextClass == null) {
+            this.nextClass = this.findNextClass();
+        }
+        return this.nextClass != null;
     }
 
     @Override
     public Class<?> next() {
-        return this.nextClasses.poll();
+        if (!this.hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        final var clazz = this.nextClass;
+        this.nextClass = null;
+        return clazz;
     }
 
-    private void processPackage(String packageName) {
+    /**
+     * Walk the package tree until the next class is found and loaded.
+     *
+     * @return Next class or {@code null} if the walk is finished
+     */
+    private Class<?> findNextClass() {
+        while (!this.packageFrames.isEmpty()) {
+            final var packageFrame = this.packageFrames.peek();
+            if (!packageFrame.elements()
+                    .hasNext()) {
+                // Package is finished, continue with the parent package
+                this.packageFrames.pop();
+                continue;
+            }
+
+            final var elementName = packageFrame.elements()
+                    .next();
+            if (elementName.endsWith(".class")) {
+                // Class file
+                final var clazz = loadClass(this.classpathItem, packageFrame.packageName(), elementName,
+                                            this.classFilter);
+                if (clazz.isPresent()) {
+                    return clazz.get();
+                }
+            } else {
+                // Subpackage
+                this.pushPackage(packageFrame.packageName() + "." + elementName);
+            }
+        }
+        return null;
+    }
+
+    private void pushPackage(String packageName) {
         final var packagePath = packageName.replace('.', '/');
         if (!this.classpathItem.isResourceExisting(packagePath)) {
             log.info("Package {} does not exist in classpath", packageName);
             return;
         }
 
-        this.classpathItem.getChildren(packagePath)
-                .forEach(element -> this.processElement(element, packageName));
+        this.packageFrames.push(new PackageFrame(packageName, this.classpathItem.getChildren(packagePath)
+                .iterator()));
     }
 
-    private void processElement(String elementName, String packageName) {
-        if (elementName.endsWith(".class")) {
-            // Class file
-            final var className = elementName.substring(0, elementName.length() - 6);
-            final var classPath = packageName + "." + className;
-            try {
-                // Add the class to the queue
-                final var clazz = Class.forName(classPath);
-                this.nextClasses.add(clazz);
-            } catch (ClassNotFoundException e) {
-                log.warn("Cannot find class {}", classPath, e);
-            }
-        } else {
-            // Subpackage
-            final var subPackagePath = packageName + "." + elementName;
-            this.processPackage(subPackagePath);
+    /**
+     * Load a class (without running static initializers) if its class file is accepted by the filter.
+     *
+     * @param classpathItem Classpath item containing the class file
+     * @param packageName   Package of the class
+     * @param fileName      Name of the class file
+     * @param classFilter   Filter for class files deciding whether a class is loaded ({@code null} to load all classes)
+     * @return Loaded class or empty if the class is not accepted or cannot be loaded
+     */
+    static Optional<Class<?>> loadClass(ClasspathItem classpathItem, String packageName, String fileName,
+                                        Predicate<ClassFileReader.ClassFileInfo> classFilter) {
+        final var className = packageName + "." + fileName.substring(0, fileName.length() - 6);
+        if (!isClassFileAccepted(classpathItem, packageName.replace('.', '/') + "/" + fileName, classFilter)) {
+            log.debug("Skipping class {}", className);
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(Class.forName(className, false, RecursivePackageClassIterator.class.getClassLoader()));
+        } catch (ClassNotFoundException e) {
+            log.warn("Cannot find class {}", className, e);
+            return Optional.empty();
         }
     }
 
+    private static boolean isClassFileAccepted(ClasspathItem classpathItem, String classFilePath,
+                                               Predicate<ClassFileReader.ClassFileInfo> classFilter) {
+        if (classFilter == null) {
+            return true;
+        }
+
+        try (final var inputStream = classpathItem.getResourceAsStream(classFilePath)) {
+            return classFilter.test(ClassFileReader.read(inputStream));
+        } catch (IOException | RuntimeException e) {
+            // Load the class if the class file cannot be read (the class loader will decide)
+            log.debug("Cannot read class file {}", classFilePath, e);
+            return true;
+        }
+    }
+
+    /**
+     * Package in the walk with its remaining elements.
+     *
+     * @param packageName Name of the package
+     * @param elements    Remaining elements (class files and subpackages) of the package
+     */
+    private record PackageFrame(String packageName, Iterator<String> elements) {
+    }
+
 }
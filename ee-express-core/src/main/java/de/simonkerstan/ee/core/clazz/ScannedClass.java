@@ -0,0 +1,18 @@
+/*
+ * Copyright (c) 2025 Simon Kerstan
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.simonkerstan.ee.core.clazz;
+
+import java.util.Set;
+
+/**
+ * Scanning result of one class (from the build-time class index).
+ *
+ * @param className              Binary class name (to be used with {@link Class#forName(String)})
+ * @param classAnnotations       Names of all annotation types at the class level
+ * @param constructorAnnotations Names of all annotation types at the constructor level
+ */
+record ScannedClass(String className, Set<String> classAnnotations, Set<String> constructorAnnotations) {
+}
@@ -9,6 +9,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.regex.Pattern;
 
 /**
@@ -66,4 +67,9 @@ final class CommandLineConfigurationProvider implements ConfigurationProvider {
         return Optional.empty();
     }
 
+    @Override
+    public Optional<Set<String>> getPropertyNames() {
+        return Optional.of(this.configurationValues.keySet());
+    }
+
 }
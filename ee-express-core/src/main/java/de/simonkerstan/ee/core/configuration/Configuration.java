@@ -70,7 +70,8 @@ public interface Configuration {
     <T> List<T> getRequiredListValue(String propertyName, Class<T> type) throws MissingConfigurationPropertyException;
 
     /**
-     * Get a map value of a configuration property.
+     * Get a map value of a configuration property. Sub values without a value (e.g., only with nested sub values) are
+     * skipped.
      *
      * @param propertyName Name of the property
      * @param type         Type of the map values
@@ -91,4 +92,29 @@ public interface Configuration {
     <T> Map<String, T> getRequiredMapValue(String propertyName, Class<T> type) throws
             MissingConfigurationPropertyException;
 
+    /**
+     * Convert a raw value like a property value (e.g., a default value). Configurations without converters can only
+     * convert strings.
+     *
+     * @param value Raw value
+     * @param type  Target type (records are not supported because they consist of multiple properties)
+     * @param <T>   Target type
+     * @return Converted value or empty if the value cannot be converted
+     */
+    default <T> Optional<T> convertValue(String value, Class<T> type) {
+        return type.isInstance(value) ? Optional.of(type.cast(value)) : Optional.empty();
+    }
+
+    /**
+     * Register a listener for changes of configuration properties (e.g., after a configuration file has been
+     * reloaded). The listener is only notified about changed properties whose names start with the given prefix.
+     * Configurations which cannot change ignore all listeners.
+     *
+     * @param propertyNamePrefix Prefix of all property names the listener is interested in (empty for all properties)
+     * @param listener           Listener to be notified
+     */
+    default void addChangeListener(String propertyNamePrefix, ConfigurationChangeListener listener) {
+        // Configuration cannot change by default
+    }
+
 }
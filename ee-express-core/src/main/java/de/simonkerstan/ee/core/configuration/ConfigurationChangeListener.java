@@ -0,0 +1,23 @@
+/*
+ * Copyright (c) 2025 Simon Kerstan
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.simonkerstan.ee.core.configuration;
+
+import java.util.Set;
+
+/**
+ * Listener for changes of configuration properties.
+ */
+@FunctionalInterface
+public interface ConfigurationChangeListener {
+
+    /**
+     * Called after configuration properties have changed. The new values are already visible in the configuration.
+     *
+     * @param changedPropertyNames Names of all changed properties (added, changed or removed)
+     */
+    void onConfigurationChange(Set<String> changedPropertyNames);
+
+}
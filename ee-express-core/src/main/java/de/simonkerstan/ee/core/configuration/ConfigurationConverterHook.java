@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2025 Simon Kerstan
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.simonkerstan.ee.core.configuration;
+
+import de.simonkerstan.ee.core.annotations.ConfigurationConverter;
+import de.simonkerstan.ee.core.clazz.ClassHook;
+import de.simonkerstan.ee.core.exceptions.InvalidConfigurationConverterException;
+import lombok.Getter;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.InvocationTargetException;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Hook to process custom configuration converters.
+ * <p>
+ * FOR INTERNAL USE ONLY. THE API CAN CHANGE AT ANY TIME.
+ */
+public class ConfigurationConverterHook implements ClassHook {
+
+    @Getter
+    private final List<ConfigurationValueConverter<?>> converters = new LinkedList<>();
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Class<? extends Annotation>[] getClassAnnotations() {
+        return new Class[]{ConfigurationConverter.class};
+    }
+
+    @Override
+    public void processClass(Class<?> clazz, Class<? extends Annotation> annotation, Annotation annotationInstance) {
+        // We only process one annotation, so we can ignore the annotation parameter
+        if (!ConfigurationValueConverter.class.isAssignableFrom(clazz)) {
+            // Custom converter must implement the ConfigurationValueConverter interface
+            throw new InvalidConfigurationConverterException(
+                    "Custom configuration converter must implement the ConfigurationValueConverter interface");
+        }
+
+        try {
+            this.converters.add((ConfigurationValueConverter<?>) clazz.getDeclaredConstructor()
+                    .newInstance());
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException |
+                 NoSuchMethodException e) {
+            throw new InvalidConfigurationConverterException("Cannot instantiate custom configuration converter", e);
+        }
+    }
+
+}
@@ -37,6 +37,12 @@ public final class ConfigurationFileLoader {
             if (providerClass == PropertiesFileConfigurationProvider.class) {
                 // Properties file provider
                 return Optional.of(new PropertiesFileConfigurationProvider(is));
+            } else if (providerClass == XmlFileConfigurationProvider.class) {
+                // XML file provider
+                return Optional.of(new XmlFileConfigurationProvider(is));
+            } else if (providerClass == JsonFileConfigurationProvider.class) {
+                // JSON file provider
+                return Optional.of(new JsonFileConfigurationProvider(is));
             }
         } catch (IOException e) {
             log.warn("Cannot read configuration file {}", filename, e);
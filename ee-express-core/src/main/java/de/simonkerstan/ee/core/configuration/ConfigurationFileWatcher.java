@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2025 Simon Kerstan
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.simonkerstan.ee.core.configuration;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Watcher for configuration files. If a watched file changes, it is reloaded on the watcher thread, and its provider is
+ * replaced in the configuration (see {@link DefaultConfiguration#replaceConfigurationProvider(ConfigurationProvider,
+ * ConfigurationProvider)}). Readers of the configuration are never blocked by a reload. If a file cannot be reloaded,
+ * its previous provider is kept.
+ * <p>
+ * FOR INTERNAL USE ONLY. THE API CAN CHANGE AT ANY TIME.
+ */
+@Slf4j
+public final class ConfigurationFileWatcher implements Closeable {
+
+    private static final String THREAD_NAME = "ee-express-configuration-watcher";
+    /**
+     * Time to wait for further events after the first event (editors often write a file in multiple steps).
+     */
+    private static final long DEBOUNCE_MILLIS = 100;
+
+    private final DefaultConfiguration configuration;
+    /**
+     * Current provider of each watched file (only accessed by the watcher thread after start).
+     */
+    private final Map<Path, ConfigurationProvider> providers = new HashMap<>();
+    private final WatchService watchService;
+    private final Thread thread;
+
+    /**
+     * Create a new watcher and start watching.
+     *
+     * @param configuration Configuration which contains the providers
+     * @param providers     Current provider of each file to be watched (a changed file is reloaded with the class of
+     *                      its provider, see {@link ConfigurationFileLoader#loadProvider(Class, String)})
+     * @throws IOException If the files cannot be watched
+     */
+    public ConfigurationFileWatcher(DefaultConfiguration configuration, Map<Path, ConfigurationProvider> providers)
+            throws IOException {
+        this.configuration = configuration;
+        providers.forEach((path, provider) -> this.providers.put(path.toAbsolutePath()
+                                                                          .normalize(), provider));
+        this.watchService = FileSystems.getDefault()
+                .newWatchService();
+        try {
+            // Directories are watched because files cannot be watched directly (and editors often replace files)
+            for (final var directory : this.providers.keySet()
+                    .stream()
+                    .map(Path::getParent)
+                    .distinct()
+                    .toList()) {
+                directory.register(this.watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                                   StandardWatchEventKinds.ENTRY_MODIFY);
+            }
+        } catch (IOException e) {
+            this.watchService.close();
+            throw e;
+        }
+
+        this.thread = new Thread(this::watch, THREAD_NAME);
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    @Override
+    public void close() throws IOException {
+        // The watcher thread ends on the closed watch service
+        this.watchService.close();
+    }
+
+    private void watch() {
+        try {
+            while (true) {
+                final Set<Path> changedFiles = new HashSet<>();
+                this.collectChangedFiles(this.watchService.take(), changedFiles);
+                WatchKey watchKey;
+                while ((watchKey = this.watchService.poll(DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    this.collectChangedFiles(watchKey, changedFiles);
+                }
+                changedFiles.forEach(this::reload);
+            }
+        } catch (ClosedWatchServiceException e) {
+            log.debug("Configuration file watcher closed");
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                    .interrupt();
+        }
+    }
+
+    private void collectChangedFiles(WatchKey watchKey, Set<Path> changedFiles) {
+        final var directory = (Path) watchKey.watchable();
+        for (final var event : watchKey.pollEvents()) {
+            if (event.context() instanceof Path filename) {
+                final var file = directory.resolve(filename);
+                if (this.providers.containsKey(file)) {
+                    changedFiles.add(file);
+                }
+            }
+        }
+        watchKey.reset();
+    }
+
+    private void reload(Path file) {
+        log.info("Reloading configuration file {}", file);
+        final var oldProvider = this.providers.get(file);
+        try {
+            ConfigurationFileLoader.loadProvider(oldProvider.getClass(), file.toString())
+                    .ifPresent(newProvider -> {
+                        this.configuration.replaceConfigurationProvider(oldProvider, newProvider);
+                        this.providers.put(file, newProvider);
+                    });
+        } catch (RuntimeException e) {
+            // A broken file must not end the watcher thread, so the file can be fixed and reloaded again
+            log.error("Cannot reload configuration file {}. The previous configuration is kept.", file, e);
+        }
+    }
+
+}
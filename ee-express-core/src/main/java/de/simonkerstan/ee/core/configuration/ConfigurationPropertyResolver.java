@@ -5,13 +5,12 @@
 
 package de.simonkerstan.ee.core.configuration;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
-import java.lang.reflect.InvocationTargetException;
-import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 
@@ -20,11 +19,50 @@ import java.util.function.Function;
  * <p>
  * FOR INTERNAL USE ONLY. THE API CAN CHANGE AT ANY TIME.
  */
-@RequiredArgsConstructor
 @Slf4j
 final class ConfigurationPropertyResolver {
 
     private final Function<String, Optional<String>> configurationValueProvider;
+    /**
+     * Provider of the sub values of a property (see {@link ConfigurationProvider#getConfigurationSubValues(String)}).
+     */
+    private final Function<String, Optional<List<String>>> configurationSubValuesProvider;
+    private final ConfigurationValueConverters converters;
+
+    /**
+     * Create a new resolver without support for lists and maps in records.
+     *
+     * @param configurationValueProvider Provider of the raw property values
+     */
+    ConfigurationPropertyResolver(Function<String, Optional<String>> configurationValueProvider) {
+        this(configurationValueProvider, _propertyName -> Optional.empty());
+    }
+
+    /**
+     * Create a new resolver.
+     *
+     * @param configurationValueProvider     Provider of the raw property values
+     * @param configurationSubValuesProvider Provider of the sub values of a property (for lists and maps in records)
+     */
+    ConfigurationPropertyResolver(Function<String, Optional<String>> configurationValueProvider,
+                                  Function<String, Optional<List<String>>> configurationSubValuesProvider) {
+        this(configurationValueProvider, configurationSubValuesProvider, new ConfigurationValueConverters());
+    }
+
+    /**
+     * Create a new resolver.
+     *
+     * @param configurationValueProvider     Provider of the raw property values
+     * @param configurationSubValuesProvider Provider of the sub values of a property (for lists and maps in records)
+     * @param converters                     Converters of the raw property values
+     */
+    ConfigurationPropertyResolver(Function<String, Optional<String>> configurationValueProvider,
+                                  Function<String, Optional<List<String>>> configurationSubValuesProvider,
+                                  ConfigurationValueConverters converters) {
+        this.configurationValueProvider = configurationValueProvider;
+        this.configurationSubValuesProvider = configurationSubValuesProvider;
+        this.converters = converters;
+    }
 
     /**
      * Resolve a configuration property.
@@ -41,151 +79,84 @@ final class ConfigurationPropertyResolver {
         }
 
         return this.configurationValueProvider.apply(propertyName)
-                .map(value -> this.parsePrimitiveValue(propertyType, value))
+                .map(value -> this.parseValue(propertyType, value))
                 .stream()
                 .flatMap(Optional::stream)
                 .findAny();
     }
 
     private <T> Optional<T> parseRecord(String propertyName, Class<T> type) {
-        final var recordComponents = type.getRecordComponents();
-        final List<Class<?>> constructorTypes = new ArrayList<>(recordComponents.length);
-        final List<Object> parameters = new ArrayList<>(recordComponents.length);
-        for (final var recordComponent : recordComponents) {
-            this.resolveConfigurationValue("%s.%s".formatted(propertyName, recordComponent.getName()),
-                                           recordComponent.getType())
-                    .ifPresent(e -> {
-                        constructorTypes.add(recordComponent.getType());
-                        parameters.add(e);
-                    });
+        final var binding = RecordBinding.of(type);
+        final var components = binding.getComponents();
+        final var parameters = new Object[components.length];
+        for (int i = 0; i < components.length; i++) {
+            final var component = components[i];
+            final var componentPropertyName = propertyName + component.keySuffix();
+            final var value = switch (component.kind()) {
+                case VALUE -> this.resolveConfigurationValue(componentPropertyName, component.valueType());
+                case LIST -> this.parseList(componentPropertyName, component.valueType());
+                case MAP -> this.parseMap(componentPropertyName, component.valueType());
+            };
+            if (value.isEmpty()) {
+                // Not all parameters could be resolved
+                log.warn("Not all record components could be resolved for record type {} ({})", type.getName(),
+                         propertyName);
+                return Optional.empty();
+            }
+            parameters[i] = value.get();
         }
 
-        if (parameters.size() != recordComponents.length) {
-            // Not all parameters could be resolved
-            log.warn("Not all record components could be resolved for record type {} ({})", type.getName(),
-                     propertyName);
-            return Optional.empty();
-        }
-
-        try {
-            return Optional.of(type.getConstructor(constructorTypes.toArray(Class[]::new))
-                                       .newInstance(parameters.toArray()));
-        } catch (InstantiationException | NoSuchMethodException | InvocationTargetException |
-                 IllegalAccessException e) {
-            log.warn("Cannot instantiate record type {} ({})", type.getName(), propertyName, e);
-            return Optional.empty();
-        }
-    }
-
-    @SuppressWarnings("unchecked")
-    private <T> Optional<T> parsePrimitiveValue(Class<T> propertyType, String value) {
-        if (propertyType == String.class) {
-            // String
-            return (Optional<T>) Optional.of(value);
-        } else if (propertyType == char.class || propertyType == Character.class) {
-            // Character
-            return (Optional<T>) this.parseChar(value);
-        } else if (propertyType == boolean.class || propertyType == Boolean.class) {
-            // Boolean
-            return (Optional<T>) this.parseBool(value);
-        } else if (propertyType == byte.class || propertyType == Byte.class) {
-            // Byte
-            return (Optional<T>) this.parseByte(value);
-        } else if (propertyType == short.class || propertyType == Short.class) {
-            // Short
-            return (Optional<T>) this.parseShort(value);
-        } else if (propertyType == int.class || propertyType == Integer.class) {
-            // Integer
-            return (Optional<T>) this.parseInt(value);
-        } else if (propertyType == long.class || propertyType == Long.class) {
-            // Long
-            return (Optional<T>) this.parseLong(value);
-        } else if (propertyType == float.class || propertyType == Float.class) {
-            // Float
-            return (Optional<T>) this.parseFloat(value);
-        } else if (propertyType == double.class || propertyType == Double.class) {
-            // Double
-            return (Optional<T>) this.parseDouble(value);
-        } else if (propertyType.isEnum()) {
-            // Enum type
-            return this.parseEnum(value, propertyType);
-        }
-
-        // Best effort casting
-        return Optional.of(propertyType.cast(value));
-    }
-
-    private Optional<Character> parseChar(String value) {
-        if (value.length() != 1) {
-            log.warn("Cannot parse configuration property value as character, value is not a single character");
-            return Optional.empty();
-        }
-        return Optional.of(value.charAt(0));
+        return binding.newInstance(parameters)
+                .map(type::cast);
     }
 
-    private Optional<Boolean> parseBool(String value) {
-        return Optional.of(Boolean.parseBoolean(value));
-    }
-
-    private Optional<Byte> parseByte(String value) {
-        try {
-            return Optional.of(Byte.parseByte(value));
-        } catch (NumberFormatException e) {
-            log.warn("Cannot parse configuration property value as byte", e);
-            return Optional.empty();
-        }
-    }
-
-    private Optional<Short> parseShort(String value) {
-        try {
-            return Optional.of(Short.parseShort(value));
-        } catch (NumberFormatException e) {
-            log.warn("Cannot parse configuration property value as short", e);
-            return Optional.empty();
-        }
-    }
-
-    private Optional<Integer> parseInt(String value) {
-        try {
-            return Optional.of(Integer.parseInt(value));
-        } catch (NumberFormatException e) {
-            log.warn("Cannot parse configuration property value as integer", e);
-            return Optional.empty();
-        }
-    }
-
-    private Optional<Long> parseLong(String value) {
-        try {
-            return Optional.of(Long.parseLong(value));
-        } catch (NumberFormatException e) {
-            log.warn("Cannot parse configuration property value as long", e);
-            return Optional.empty();
-        }
+    /**
+     * Parse a list (of a record component).
+     *
+     * @param propertyName Name of the list property
+     * @param elementType  Type of the list elements
+     * @return List (unmodifiable) or empty if the list has no elements
+     */
+    private Optional<Object> parseList(String propertyName, Class<?> elementType) {
+        final var prefix = propertyName + ".";
+        return this.configurationSubValuesProvider.apply(propertyName)
+                .filter(subValues -> !subValues.isEmpty())
+                .map(subValues -> subValues.stream()
+                        .map(subValue -> this.resolveConfigurationValue(prefix + subValue, elementType))
+                        .flatMap(Optional::stream)
+                        .toList());
     }
 
-    private Optional<Float> parseFloat(String value) {
-        try {
-            return Optional.of(Float.parseFloat(value));
-        } catch (NumberFormatException e) {
-            log.warn("Cannot parse configuration property value as float", e);
-            return Optional.empty();
-        }
+    /**
+     * Parse a map (of a record component).
+     *
+     * @param propertyName Name of the map property
+     * @param valueType    Type of the map values
+     * @return Map (unmodifiable, in the order of the sub values) or empty if the map has no entries
+     */
+    private Optional<Object> parseMap(String propertyName, Class<?> valueType) {
+        final var prefix = propertyName + ".";
+        return this.configurationSubValuesProvider.apply(propertyName)
+                .filter(subValues -> !subValues.isEmpty())
+                .map(subValues -> {
+                    final Map<String, Object> map = new LinkedHashMap<>();
+                    subValues.forEach(subValue -> this.resolveConfigurationValue(prefix + subValue, valueType)
+                            .ifPresent(value -> map.put(subValue, value)));
+                    return Collections.unmodifiableMap(map);
+                });
     }
 
-    private Optional<Double> parseDouble(String value) {
+    @SuppressWarnings("unchecked")
+    private <T> Optional<T> parseValue(Class<T> propertyType, String value) {
         try {
-            return Optional.of(Double.parseDouble(value));
-        } catch (NumberFormatException e) {
-            log.warn("Cannot parse configuration property value as double", e);
+            // Primitive types are converted into their wrappers, so no checked cast is possible
+            return Optional.of((T) this.converters.getConverter(propertyType)
+                    .convert(value));
+        } catch (RuntimeException e) {
+            // Catch all runtime exceptions because custom converters could throw anything
+            log.warn("Cannot parse configuration property value as {}", propertyType.getName(), e);
             return Optional.empty();
         }
     }
 
-    private <T> Optional<T> parseEnum(String propertyName, Class<T> propertyType) {
-        return Arrays.stream(propertyType.getEnumConstants())
-                .filter(e -> ((Enum<?>) e).name()
-                        .equals(propertyName))
-                .findAny();
-    }
-
 }
@@ -7,6 +7,7 @@ package de.simonkerstan.ee.core.configuration;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Provider for configuration property values.
@@ -29,4 +30,14 @@ public interface ConfigurationProvider {
      */
     Optional<List<String>> getConfigurationSubValues(String propertyName);
 
+    /**
+     * Get the names of all configuration properties of this provider. This is used to detect changed properties if the
+     * provider is replaced and to flatten the providers of a frozen configuration.
+     *
+     * @return Names of all properties or empty if the provider cannot list its properties
+     */
+    default Optional<Set<String>> getPropertyNames() {
+        return Optional.empty();
+    }
+
 }
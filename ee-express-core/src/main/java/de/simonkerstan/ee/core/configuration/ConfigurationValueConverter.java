@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2025 Simon Kerstan
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.simonkerstan.ee.core.configuration;
+
+/**
+ * Converter of raw configuration property values into a type. Custom converters are annotated with
+ * {@link de.simonkerstan.ee.core.annotations.ConfigurationConverter} and replace the built-in converter of their type.
+ *
+ * @param <T> Type of the converted values
+ */
+public interface ConfigurationValueConverter<T> {
+
+    /**
+     * Get the type of the converted values.
+     *
+     * @return Type of the converted values
+     */
+    Class<T> getType();
+
+    /**
+     * Convert a raw configuration property value.
+     *
+     * @param value Raw value of the property
+     * @return Converted value
+     * @throws IllegalArgumentException If the value cannot be converted
+     */
+    T convert(String value);
+
+}
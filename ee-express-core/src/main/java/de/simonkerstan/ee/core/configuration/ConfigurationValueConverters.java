@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2025 Simon Kerstan
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.simonkerstan.ee.core.configuration;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Registry of all converters of configuration property values. The converter of a type is only looked up once per
+ * type (until a custom converter is added).
+ * <p>
+ * Built-in converters are available for strings, characters, all primitive types and their wrappers, enums,
+ * {@link Duration}, {@link DataSize}, {@link URI}, {@link Path}, {@link InetSocketAddress} and {@link Charset}.
+ * <p>
+ * FOR INTERNAL USE ONLY. THE API CAN CHANGE AT ANY TIME.
+ */
+final class ConfigurationValueConverters {
+
+    private static final Map<Class<?>, Class<?>> PRIMITIVE_WRAPPERS = Map.of(char.class, Character.class,
+                                                                             boolean.class, Boolean.class,
+                                                                             byte.class, Byte.class,
+                                                                             short.class, Short.class,
+                                                                             int.class, Integer.class,
+                                                                             long.class, Long.class,
+                                                                             float.class, Float.class,
+                                                                             double.class, Double.class);
+    private static final Map<Class<?>, ConfigurationValueConverter<?>> BUILT_IN_CONVERTERS = Map.ofEntries(
+            converter(String.class, Function.identity()),
+            converter(Character.class, ConfigurationValueConverters::parseChar),
+            converter(Boolean.class, Boolean::parseBoolean),
+            converter(Byte.class, Byte::parseByte),
+            converter(Short.class, Short::parseShort),
+            converter(Integer.class, Integer::parseInt),
+            converter(Long.class, Long::parseLong),
+            converter(Float.class, Float::parseFloat),
+            converter(Double.class, Double::parseDouble),
+            converter(Duration.class, ConfigurationValueConverters::parseDuration),
+            converter(DataSize.class, DataSize::parse),
+            converter(URI.class, URI::create),
+            converter(Path.class, Path::of),
+            converter(InetSocketAddress.class, ConfigurationValueConverters::parseInetSocketAddress),
+            converter(Charset.class, Charset::forName));
+
+    /**
+     * Custom converters (by type).
+     */
+    private final Map<Class<?>, ConfigurationValueConverter<?>> customConverters = new ConcurrentHashMap<>();
+    /**
+     * Cache of the converter of each type. Replaced if a custom converter is added.
+     */
+    private volatile ClassValue<ConfigurationValueConverter<?>> converters = this.createCache();
+
+    /**
+     * Add a custom converter. The converter replaces the built-in converter of its type.
+     *
+     * @param converter Custom converter
+     */
+    void addConverter(ConfigurationValueConverter<?> converter) {
+        this.customConverters.put(converter.getType(), converter);
+        this.converters = this.createCache();
+    }
+
+    /**
+     * Get the converter of a type.
+     *
+     * @param type Type of the converted values (primitive types are converted into their wrappers)
+     * @return Converter (the converter throws an {@link IllegalArgumentException} if the type is not supported)
+     */
+    ConfigurationValueConverter<?> getConverter(Class<?> type) {
+        return this.converters.get(type);
+    }
+
+    private ClassValue<ConfigurationValueConverter<?>> createCache() {
+        return new ClassValue<>() {
+
+            @Override
+            protected ConfigurationValueConverter<?> computeValue(Class<?> type) {
+                return ConfigurationValueConverters.this.findConverter(type);
+            }
+
+        };
+    }
+
+    private ConfigurationValueConverter<?> findConverter(Class<?> type) {
+        final var wrapperType = PRIMITIVE_WRAPPERS.getOrDefault(type, type);
+        final var customConverter = this.customConverters.get(wrapperType);
+        if (customConverter != null) {
+            return customConverter;
+        }
+        final var builtInConverter = BUILT_IN_CONVERTERS.get(wrapperType);
+        if (builtInConverter != null) {
+            return builtInConverter;
+        }
+
+        if (type.isEnum()) {
+            // Enum type (constants are looked up by name)
+            final Map<String, ?> constants = Arrays.stream(type.getEnumConstants())
+                    .collect(Collectors.toUnmodifiableMap(constant -> ((Enum<?>) constant).name(),
+                                                          Function.identity()));
+            return new FunctionConverter<>(Object.class, value -> {
+                final var constant = constants.get(value);
+                if (constant == null) {
+                    throw new IllegalArgumentException(
+                            "Unknown constant " + value + " of enum type " + type.getName());
+                }
+                return constant;
+            });
+        } else if (type.isAssignableFrom(String.class)) {
+            // Super types of strings (e.g., Object or CharSequence)
+            return BUILT_IN_CONVERTERS.get(String.class);
+        }
+
+        return new FunctionConverter<>(Object.class, _value -> {
+            throw new IllegalArgumentException("No configuration converter for type " + type.getName());
+        });
+    }
+
+    private static <T> Map.Entry<Class<?>, ConfigurationValueConverter<?>> converter(Class<T> type,
+                                                                                    Function<String, T> function) {
+        return Map.entry(type, new FunctionConverter<>(type, function));
+    }
+
+    private static Character parseChar(String value) {
+        if (value.length() != 1) {
+            throw new IllegalArgumentException("Value is not a single character");
+        }
+        return value.charAt(0);
+    }
+
+    /**
+     * Parse a duration. Durations are either ISO-8601 durations (e.g., {@code PT5S}) or a number with an optional unit
+     * {@code ns}, {@code us}, {@code ms}, {@code s}, {@code m}, {@code h} or {@code d} (e.g., {@code 500ms}). Durations
+     * without unit are milliseconds.
+     *
+     * @param value Duration
+     * @return Parsed duration
+     */
+    private static Duration parseDuration(String value) {
+        final var trimmedValue = value.trim();
+        final var signLength = trimmedValue.startsWith("-") || trimmedValue.startsWith("+") ? 1 : 0;
+        if (trimmedValue.length() > signLength && Character.toUpperCase(trimmedValue.charAt(signLength)) == 'P') {
+            // ISO-8601 duration
+            return Duration.parse(trimmedValue);
+        }
+
+        int unitStart = signLength;
+        while (unitStart < trimmedValue.length() && Character.isDigit(trimmedValue.charAt(unitStart))) {
+            unitStart++;
+        }
+        final var amount = Long.parseLong(trimmedValue, 0, unitStart, 10);
+        final var unit = switch (trimmedValue.substring(unitStart)
+                .trim()
+                .toLowerCase(Locale.ROOT)) {
+            case "ns" -> ChronoUnit.NANOS;
+            case "us" -> ChronoUnit.MICROS;
+            case "", "ms" -> ChronoUnit.MILLIS;
+            case "s" -> ChronoUnit.SECONDS;
+            case "m" -> ChronoUnit.MINUTES;
+            case "h" -> ChronoUnit.HOURS;
+            case "d" -> ChronoUnit.DAYS;
+            default -> throw new IllegalArgumentException("Invalid duration unit: " + value);
+        };
+        return Duration.of(amount, unit);
+    }
+
+    /**
+     * Parse a socket address in the format {@code host:port} (IPv6 addresses in brackets, e.g., {@code [::1]:8080}).
+     * The host name is resolved.
+     *
+     * @param value Socket address
+     * @return Parsed socket address
+     */
+    private static InetSocketAddress parseInetSocketAddress(String value) {
+        final var trimmedValue = value.trim();
+        final var portSeparator = trimmedValue.lastIndexOf(':');
+        if (portSeparator < 0) {
+            throw new IllegalArgumentException("Socket address without port: " + value);
+        }
+
+        var host = trimmedValue.substring(0, portSeparator);
+        if (host.startsWith("[") && host.endsWith("]")) {
+            // IPv6 address
+            host = host.substring(1, host.length() - 1);
+        }
+        return new InetSocketAddress(host, Integer.parseInt(trimmedValue.substring(portSeparator + 1)));
+    }
+
+    /**
+     * Converter based on a function.
+     *
+     * @param <T> Type of the converted values
+     */
+    private static final class FunctionConverter<T> implements ConfigurationValueConverter<T> {
+
+        private final Class<T> type;
+        private final Function<String, T> function;
+
+        private FunctionConverter(Class<T> type, Function<String, T> function) {
+            this.type = type;
+            this.function = function;
+        }
+
+        @Override
+        public Class<T> getType() {
+            return this.type;
+        }
+
+        @Override
+        public T convert(String value) {
+            return this.function.apply(value);
+        }
+
+    }
+
+}
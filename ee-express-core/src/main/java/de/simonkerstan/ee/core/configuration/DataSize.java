@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2025 Simon Kerstan
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.simonkerstan.ee.core.configuration;
+
+import java.util.Locale;
+
+/**
+ * Size of data (e.g., a buffer or upload limit) for configuration properties.
+ *
+ * @param bytes Size in bytes
+ */
+public record DataSize(long bytes) {
+
+    private static final long KILOBYTE = 1024L;
+
+    public DataSize {
+        if (bytes < 0) {
+            throw new IllegalArgumentException("Data size must not be negative");
+        }
+    }
+
+    /**
+     * Parse a data size. The size is a number with an optional unit {@code B}, {@code KB}, {@code MB}, {@code GB} or
+     * {@code TB} (case-insensitive, binary units, e.g., {@code 1KB} are 1024 bytes). Sizes without unit are bytes.
+     *
+     * @param value Data size (e.g., {@code 512KB})
+     * @return Parsed data size
+     * @throws IllegalArgumentException If the value is no valid data size
+     */
+    public static DataSize parse(String value) {
+        final var trimmedValue = value.trim()
+                .toUpperCase(Locale.ROOT);
+        int unitStart = 0;
+        while (unitStart < trimmedValue.length() && Character.isDigit(trimmedValue.charAt(unitStart))) {
+            unitStart++;
+        }
+        if (unitStart == 0) {
+            throw new IllegalArgumentException("Invalid data size: " + value);
+        }
+
+        final var amount = Long.parseLong(trimmedValue, 0, unitStart, 10);
+        final var multiplier = switch (trimmedValue.substring(unitStart)
+                .trim()) {
+            case "", "B" -> 1L;
+            case "KB" -> KILOBYTE;
+            case "MB" -> KILOBYTE * KILOBYTE;
+            case "GB" -> KILOBYTE * KILOBYTE * KILOBYTE;
+            case "TB" -> KILOBYTE * KILOBYTE * KILOBYTE * KILOBYTE;
+            default -> throw new IllegalArgumentException("Invalid data size unit: " + value);
+        };
+        try {
+            return new DataSize(Math.multiplyExact(amount, multiplier));
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Data size too large: " + value, e);
+        }
+    }
+
+    /**
+     * Get the size in kilobytes (rounded down).
+     *
+     * @return Size in kilobytes
+     */
+    public long toKilobytes() {
+        return this.bytes / KILOBYTE;
+    }
+
+    /**
+     * Get the size in megabytes (rounded down).
+     *
+     * @return Size in megabytes
+     */
+    public long toMegabytes() {
+        return this.bytes / (KILOBYTE * KILOBYTE);
+    }
+
+}
@@ -6,33 +6,49 @@
 package de.simonkerstan.ee.core.configuration;
 
 import de.simonkerstan.ee.core.exceptions.MissingConfigurationPropertyException;
+import lombok.extern.slf4j.Slf4j;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Default configuration implementation.
  * <p>
+ * All providers are held in an immutable snapshot which is replaced as a whole (by a single volatile write) if a
+ * provider is added or reloaded. Readers never lock and always see a consistent set of providers.
+ * <p>
+ * The configuration can be frozen after all providers are added (see {@link #freeze()}). Then, the raw values of all
+ * properties listed by the providers are flattened into one immutable map, and all property values are memoized per
+ * property name and type on the first lookup, so all further lookups only cost two hash map lookups.
+ * <p>
  * FOR INTERNAL USE ONLY. THE API CAN CHANGE AT ANY TIME.
  */
+@Slf4j
 public final class DefaultConfiguration implements Configuration {
 
     /**
-     * List of all configuration providers. The first provider in the list will be queried first.
+     * Current snapshot of the configuration. Only replaced while holding the lock of this configuration.
      */
-    private final List<ConfigurationProvider> providers = new LinkedList<>();
+    private volatile Snapshot snapshot;
     /**
-     * Resolver for configuration properties (from all providers in the correct order with an attribute converter).
+     * All registered change listeners.
      */
-    private final ConfigurationPropertyResolver configurationPropertyResolver = new ConfigurationPropertyResolver(
-            propertyName -> this.providers.stream()
-                    .map(provider -> provider.getConfigurationValue(propertyName))
-                    .filter(Optional::isPresent)
-                    .flatMap(Optional::stream)
-                    .findFirst());
+    private final List<ChangeListenerRegistration> changeListeners = new CopyOnWriteArrayList<>();
+    /**
+     * Converters of raw property values (shared by all snapshots).
+     */
+    private final ConfigurationValueConverters converters = new ConfigurationValueConverters();
 
     /**
      * Create a new configuration instance.
@@ -40,12 +56,12 @@ public final class DefaultConfiguration implements Configuration {
      * @param args Command line arguments
      */
     public DefaultConfiguration(String[] args) {
-        this.providers.add(new CommandLineConfigurationProvider(args));
+        this.snapshot = new Snapshot(List.of(new CommandLineConfigurationProvider(args)), false, this.converters);
     }
 
     @Override
     public <T> Optional<T> getPropertyValue(String propertyName, Class<T> type) {
-        return this.configurationPropertyResolver.resolveConfigurationValue(propertyName, type);
+        return this.snapshot.getPropertyValue(propertyName, type);
     }
 
     @Override
@@ -63,10 +79,11 @@ public final class DefaultConfiguration implements Configuration {
 
     @Override
     public <T> Optional<List<T>> getListValue(String propertyName, Class<T> type) {
-        return this.getSubValues(propertyName)
+        final var currentSnapshot = this.snapshot;
+        final var prefix = propertyName + ".";
+        return currentSnapshot.getSubValues(propertyName)
                 .map(list -> list.stream()
-                        .map(property -> "%s.%s".formatted(propertyName, property))
-                        .map(property -> this.getPropertyValue(property, type))
+                        .map(property -> currentSnapshot.getPropertyValue(prefix + property, type))
                         .flatMap(Optional::stream)
                         .toList());
     }
@@ -80,13 +97,18 @@ public final class DefaultConfiguration implements Configuration {
 
     @Override
     public <T> Optional<Map<String, T>> getMapValue(String propertyName, Class<T> type) {
-        return this.getSubValues(propertyName)
+        final var currentSnapshot = this.snapshot;
+        final var prefix = propertyName + ".";
+        return currentSnapshot.getSubValues(propertyName)
                 .map(list -> list.stream()
-                        .map(property -> {
-                            final var key = "%s.%s".formatted(propertyName, property);
-                            final var value = this.getPropertyValue(key, type)
-                                    .orElseThrow();
-                            return Map.entry(property, value);
+                        .flatMap(property -> {
+                            final var value = currentSnapshot.getPropertyValue(prefix + property, type);
+                            if (value.isEmpty() && currentSnapshot.getRawValue(prefix + property)
+                                    .isEmpty()) {
+                                // Sub values without a value (e.g., only with nested sub values) are skipped
+                                return Stream.empty();
+                            }
+                            return Stream.of(Map.entry(property, value.orElseThrow()));
                         })
                         .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)));
     }
@@ -98,35 +120,268 @@ public final class DefaultConfiguration implements Configuration {
                 .orElseThrow(() -> new MissingConfigurationPropertyException(propertyName));
     }
 
+    @Override
+    public <T> Optional<T> convertValue(String value, Class<T> type) {
+        if (type.isRecord()) {
+            return Optional.empty();
+        }
+        return new ConfigurationPropertyResolver(_propertyName -> Optional.of(value), _propertyName -> Optional.empty(),
+                                                 this.converters).resolveConfigurationValue("", type);
+    }
+
+    @Override
+    public void addChangeListener(String propertyNamePrefix, ConfigurationChangeListener listener) {
+        this.changeListeners.add(new ChangeListenerRegistration(propertyNamePrefix, listener));
+    }
+
     /**
      * Add a configuration provider.
      *
      * @param provider Configuration provider to be added
      */
-    public void addConfigurationProvider(ConfigurationProvider provider) {
-        this.providers.add(provider);
+    public synchronized void addConfigurationProvider(ConfigurationProvider provider) {
+        final var currentSnapshot = this.snapshot;
+        if (currentSnapshot.frozen) {
+            throw new IllegalStateException("Cannot add a configuration provider to a frozen configuration");
+        }
+
+        final List<ConfigurationProvider> providers = new ArrayList<>(currentSnapshot.providers);
+        providers.add(provider);
+        this.snapshot = new Snapshot(List.copyOf(providers), false, this.converters);
     }
 
     /**
-     * Get all sub values for the given property name (by using all providers).
+     * Add a custom converter of property values. The converter replaces the built-in converter of its type. All
+     * memoized values of a frozen configuration are reset.
      *
-     * @param propertyName Property name
-     * @return Sub values or empty if no sub values are available
+     * @param converter Converter to be added
      */
-    private Optional<List<String>> getSubValues(String propertyName) {
-        final var safeProvidersList = this.providers.stream()
-                .map(provider -> provider.getConfigurationSubValues(propertyName))
-                .filter(Optional::isPresent)
+    public synchronized void addConverter(ConfigurationValueConverter<?> converter) {
+        this.converters.addConverter(converter);
+        final var currentSnapshot = this.snapshot;
+        this.snapshot = new Snapshot(currentSnapshot.providers, currentSnapshot.frozen, this.converters);
+    }
+
+    /**
+     * Replace a configuration provider (e.g., after its configuration file has changed). The new provider has the same
+     * position in the provider chain as the old one. All change listeners of changed properties are notified on the
+     * calling thread afterward. Changes can only be detected if the providers can list their property names.
+     *
+     * @param oldProvider Provider to be replaced
+     * @param newProvider New provider
+     * @throws IllegalArgumentException If the old provider is not part of this configuration
+     */
+    public void replaceConfigurationProvider(ConfigurationProvider oldProvider, ConfigurationProvider newProvider) {
+        final Snapshot oldSnapshot;
+        final Snapshot newSnapshot;
+        synchronized (this) {
+            oldSnapshot = this.snapshot;
+            final List<ConfigurationProvider> providers = new ArrayList<>(oldSnapshot.providers);
+            final var index = indexOfProvider(providers, oldProvider);
+            if (index < 0) {
+                throw new IllegalArgumentException("Configuration provider is not part of the configuration");
+            }
+            providers.set(index, newProvider);
+            newSnapshot = new Snapshot(List.copyOf(providers), oldSnapshot.frozen, this.converters);
+            this.snapshot = newSnapshot;
+        }
+
+        // Only properties of the replaced providers can have changed
+        final Set<String> candidatePropertyNames = new TreeSet<>();
+        oldProvider.getPropertyNames()
+                .ifPresent(candidatePropertyNames::addAll);
+        newProvider.getPropertyNames()
+                .ifPresent(candidatePropertyNames::addAll);
+        final var changedPropertyNames = candidatePropertyNames.stream()
+                .filter(propertyName -> !Objects.equals(oldSnapshot.getRawValue(propertyName),
+                                                        newSnapshot.getRawValue(propertyName)))
                 .toList();
-        if (safeProvidersList.isEmpty()) {
-            // No provider supports sub values
-            return Optional.empty();
+        if (!changedPropertyNames.isEmpty()) {
+            log.info("Configuration properties changed: {}", changedPropertyNames);
+            this.notifyChangeListeners(changedPropertyNames);
+        }
+    }
+
+    /**
+     * Freeze the configuration. No more providers can be added afterward, the raw values of all properties listed by
+     * the providers are flattened into one map, and all property values are memoized on their first lookup (the values
+     * of the providers are expected to not change anymore). Replacing providers is still possible and flattens the
+     * providers again (all memoized values are reset).
+     */
+    public synchronized void freeze() {
+        this.snapshot = new Snapshot(this.snapshot.providers, true, this.converters);
+    }
+
+    /**
+     * Test whether the configuration is frozen.
+     *
+     * @return {@code true} if the configuration is frozen, {@code false} otherwise
+     */
+    public boolean isFrozen() {
+        return this.snapshot.frozen;
+    }
+
+    private void notifyChangeListeners(List<String> changedPropertyNames) {
+        for (final var registration : this.changeListeners) {
+            final var matchingPropertyNames = changedPropertyNames.stream()
+                    .filter(propertyName -> propertyName.startsWith(registration.propertyNamePrefix()))
+                    .collect(Collectors.toUnmodifiableSet());
+            if (matchingPropertyNames.isEmpty()) {
+                continue;
+            }
+
+            try {
+                registration.listener()
+                        .onConfigurationChange(matchingPropertyNames);
+            } catch (RuntimeException e) {
+                // One failing listener must not prevent the other listeners from being notified
+                log.warn("Configuration change listener for prefix {} failed", registration.propertyNamePrefix(), e);
+            }
+        }
+    }
+
+    private static int indexOfProvider(List<ConfigurationProvider> providers, ConfigurationProvider provider) {
+        for (int i = 0; i < providers.size(); i++) {
+            // Compare by identity (providers have no meaningful equality)
+            if (providers.get(i) == provider) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Immutable snapshot of all configuration providers.
+     */
+    private static final class Snapshot {
+
+        /**
+         * List of all configuration providers. The first provider in the list will be queried first.
+         */
+        private final List<ConfigurationProvider> providers;
+        private final boolean frozen;
+        /**
+         * Resolver for configuration properties (from all providers in the correct order with an attribute
+         * converter).
+         */
+        private final ConfigurationPropertyResolver configurationPropertyResolver;
+        /**
+         * Raw values of all properties listed by the providers if the snapshot is frozen (the first provider wins).
+         * Properties of providers which cannot list their properties are looked up in the providers. (property name ->
+         * raw value)
+         */
+        private final Map<String, Optional<String>> flattenedValues;
+        /**
+         * Memoized property values if the snapshot is frozen. (property name -> type -> value)
+         */
+        private final Map<String, Map<Class<?>, Optional<?>>> frozenValues = new ConcurrentHashMap<>();
+
+        private Snapshot(List<ConfigurationProvider> providers, boolean frozen,
+                         ConfigurationValueConverters converters) {
+            this.providers = providers;
+            this.frozen = frozen;
+            this.flattenedValues = frozen ? this.flattenRawValues() : Map.of();
+            this.configurationPropertyResolver = new ConfigurationPropertyResolver(this::getRawValue,
+                                                                                   this::getSubValues, converters);
         }
 
-        return Optional.of(safeProvidersList.stream()
-                                   .flatMap(Optional::stream)
-                                   .flatMap(List::stream)
-                                   .toList());
+        private Optional<String> getRawValue(String propertyName) {
+            final var flattenedValue = this.flattenedValues.get(propertyName);
+            return flattenedValue != null ? flattenedValue : this.lookUpRawValue(propertyName);
+        }
+
+        private Optional<String> lookUpRawValue(String propertyName) {
+            return this.providers.stream()
+                    .map(provider -> provider.getConfigurationValue(propertyName))
+                    .filter(Optional::isPresent)
+                    .flatMap(Optional::stream)
+                    .findFirst();
+        }
+
+        /**
+         * Flatten the raw values of all properties listed by the providers into one immutable map.
+         *
+         * @return Raw values of all listed properties (property name -> raw value)
+         */
+        private Map<String, Optional<String>> flattenRawValues() {
+            final Map<String, Optional<String>> values = new HashMap<>();
+            for (final var provider : this.providers) {
+                provider.getPropertyNames()
+                        .ifPresent(propertyNames -> propertyNames.forEach(propertyName -> {
+                            if (!values.containsKey(propertyName)) {
+                                // Providers which cannot list their properties can still take precedence
+                                this.lookUpRawValue(propertyName)
+                                        .ifPresent(value -> values.put(propertyName, Optional.of(value)));
+                            }
+                        }));
+            }
+            return Map.copyOf(values);
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T> Optional<T> getPropertyValue(String propertyName, Class<T> type) {
+            if (!this.frozen) {
+                return this.configurationPropertyResolver.resolveConfigurationValue(propertyName, type);
+            }
+
+            // Fast path without any allocation if the value is already memoized
+            final var valuesByType = this.frozenValues.get(propertyName);
+            final var value = valuesByType != null ? valuesByType.get(type) : null;
+            if (value != null) {
+                return (Optional<T>) value;
+            }
+
+            final var resolvedValue = this.configurationPropertyResolver.resolveConfigurationValue(propertyName, type);
+            this.frozenValues.computeIfAbsent(propertyName, _k -> new ConcurrentHashMap<>())
+                    .put(type, resolvedValue);
+            return resolvedValue;
+        }
+
+        /**
+         * Get all sub values for the given property name (by using all providers). Sub values provided by multiple
+         * providers are only returned once (in the order of the first provider).
+         *
+         * @param propertyName Property name
+         * @return Sub values or empty if no sub values are available
+         */
+        private Optional<List<String>> getSubValues(String propertyName) {
+            List<String> firstSubValues = null;
+            Set<String> mergedSubValues = null;
+            for (final var provider : this.providers) {
+                final var subValues = provider.getConfigurationSubValues(propertyName);
+                if (subValues.isEmpty()) {
+                    // Provider does not support sub values
+                    continue;
+                }
+
+                if (firstSubValues == null) {
+                    // Most properties are only defined by one provider, so its list is used without copying
+                    firstSubValues = subValues.get();
+                } else if (!subValues.get()
+                        .isEmpty()) {
+                    if (mergedSubValues == null) {
+                        mergedSubValues = new LinkedHashSet<>(firstSubValues);
+                    }
+                    mergedSubValues.addAll(subValues.get());
+                }
+            }
+
+            if (firstSubValues == null) {
+                // No provider supports sub values
+                return Optional.empty();
+            }
+            return Optional.of(mergedSubValues != null ? List.copyOf(mergedSubValues) : firstSubValues);
+        }
+
+    }
+
+    /**
+     * Registration of a change listener.
+     *
+     * @param propertyNamePrefix Prefix of all property names the listener is interested in
+     * @param listener           Listener
+     */
+    private record ChangeListenerRegistration(String propertyNamePrefix, ConfigurationChangeListener listener) {
     }
 
 }
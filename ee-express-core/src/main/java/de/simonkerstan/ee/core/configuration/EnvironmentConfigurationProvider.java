@@ -5,27 +5,97 @@
 
 package de.simonkerstan.ee.core.configuration;
 
+import java.util.Comparator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 
 /**
  * Configuration properties from environment variables (automatically loaded by the JVM).
+ * <p>
+ * The environment cannot change while the JVM is running, so it is indexed only once. Property names are mapped to
+ * environment variable names by converting them to uppercase and replacing dots with underscores (e.g.,
+ * {@code my.value} is read from {@code MY_VALUE}). Only environment variables with such names (uppercase without dots)
+ * are used. Each underscore separates a sub value, so lists and maps can be set (e.g., {@code MY_LIST_0} and
+ * {@code MY_LIST_1} are the elements of the list {@code my.list}). Sub values are always lowercase.
  */
 public final class EnvironmentConfigurationProvider implements ConfigurationProvider {
 
-    /*
-    There is no unit test because Mockito cannot mock System.getenv().
+    /**
+     * Order of environment variable names which compares property names as their environment variable names, so
+     * property names can be looked up without converting them.
      */
+    private static final Comparator<String> ENVIRONMENT_NAME_ORDER = (a, b) -> {
+        final var length = Math.min(a.length(), b.length());
+        for (int i = 0; i < length; i++) {
+            final var difference = toEnvironmentName(a.charAt(i)) - toEnvironmentName(b.charAt(i));
+            if (difference != 0) {
+                return difference;
+            }
+        }
+        return a.length() - b.length();
+    };
+
+    /**
+     * Values of all environment variables (by their names in {@link #ENVIRONMENT_NAME_ORDER}).
+     */
+    private final Map<String, String> environment = new TreeMap<>(ENVIRONMENT_NAME_ORDER);
+    /**
+     * Property names of all environment variables (lowercase with dots).
+     */
+    private final Set<String> propertyNames;
+    private final PropertyNameIndex propertyNameIndex;
+
+    /**
+     * Create a new provider for the environment of the JVM.
+     */
+    public EnvironmentConfigurationProvider() {
+        this(System.getenv());
+    }
+
+    /**
+     * Create a new provider for the given environment.
+     *
+     * @param environment Environment variables
+     */
+    EnvironmentConfigurationProvider(Map<String, String> environment) {
+        environment.forEach((name, value) -> {
+            // Other names cannot be mapped from property names
+            if (name.indexOf('.') < 0 && name.equals(name.toUpperCase(Locale.ROOT))) {
+                this.environment.put(name, value);
+            }
+        });
+        this.propertyNames = this.environment.keySet()
+                .stream()
+                .map(name -> name.toLowerCase(Locale.ROOT)
+                        .replace('_', '.'))
+                .collect(Collectors.toUnmodifiableSet());
+        this.propertyNameIndex = new PropertyNameIndex(this.propertyNames);
+    }
 
     @Override
     public Optional<String> getConfigurationValue(String propertyName) {
-        return Optional.ofNullable(System.getenv(propertyName.toUpperCase()
-                                                         .replace('.', '_')));
+        return Optional.ofNullable(this.environment.get(propertyName));
     }
 
     @Override
     public Optional<List<String>> getConfigurationSubValues(String propertyName) {
-        return Optional.empty();
+        final var subValues = this.propertyNameIndex.getSubValues(propertyName.toLowerCase(Locale.ROOT)
+                                                                          .replace('_', '.'));
+        return subValues.isEmpty() ? Optional.empty() : Optional.of(subValues);
+    }
+
+    @Override
+    public Optional<Set<String>> getPropertyNames() {
+        return Optional.of(this.propertyNames);
+    }
+
+    private static char toEnvironmentName(char c) {
+        return c == '.' ? '_' : Character.toUpperCase(c);
     }
 
 }
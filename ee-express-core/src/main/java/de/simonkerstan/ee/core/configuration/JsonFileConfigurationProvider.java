@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2025 Simon Kerstan
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.simonkerstan.ee.core.configuration;
+
+import jakarta.json.Json;
+import jakarta.json.JsonException;
+import jakarta.json.stream.JsonParser;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Configuration provider that reads the configuration from a JSON file.
+ * <p>
+ * The file is read in a single streaming pass (no JSON object tree is built). Nested objects are mapped to dotted
+ * property names, and array elements are mapped to list sub values (indexed by their position):
+ * <pre>
+ * {
+ *     "server": {
+ *         "port": 8080                      server.port=8080
+ *     },
+ *     "backends": ["a", "b"]                backends.0=a, backends.1=b
+ * }
+ * </pre>
+ * Numbers and booleans are used as written, {@code null} values are ignored.
+ * <p>
+ * FOR INTERNAL USE ONLY. THE API CAN CHANGE AT ANY TIME.
+ */
+public final class JsonFileConfigurationProvider implements ConfigurationProvider {
+
+    private final Map<String, String> properties;
+    private final PropertyNameIndex propertyNameIndex;
+
+    public JsonFileConfigurationProvider(InputStream jsonFile) throws IOException {
+        try (final var parser = Json.createParser(jsonFile)) {
+            this.properties = parse(parser);
+        } catch (JsonException e) {
+            throw new IOException("Cannot parse JSON configuration file", e);
+        }
+        this.propertyNameIndex = new PropertyNameIndex(this.properties.keySet());
+    }
+
+    @Override
+    public Optional<String> getConfigurationValue(String propertyName) {
+        return Optional.ofNullable(this.properties.get(propertyName));
+    }
+
+    @Override
+    public Optional<List<String>> getConfigurationSubValues(String propertyName) {
+        return Optional.of(this.propertyNameIndex.getSubValues(propertyName));
+    }
+
+    @Override
+    public Optional<Set<String>> getPropertyNames() {
+        return Optional.of(Collections.unmodifiableSet(this.properties.keySet()));
+    }
+
+    private static Map<String, String> parse(JsonParser parser) {
+        final Map<String, String> properties = new HashMap<>();
+        final Deque<Container> containers = new ArrayDeque<>();
+        while (parser.hasNext()) {
+            final var event = parser.next();
+            final var container = containers.peek();
+            if (container == null && event != JsonParser.Event.START_OBJECT
+                    && event != JsonParser.Event.START_ARRAY) {
+                throw new JsonException("JSON configuration file must contain an object or an array");
+            }
+
+            switch (event) {
+                case KEY_NAME -> container.key = parser.getString();
+                case START_OBJECT, START_ARRAY -> containers.push(new Container(
+                        container == null ? "" : container.nextPropertyName(), event == JsonParser.Event.START_ARRAY));
+                case END_OBJECT, END_ARRAY -> containers.pop();
+                case VALUE_STRING, VALUE_NUMBER -> properties.put(container.nextPropertyName(), parser.getString());
+                case VALUE_TRUE -> properties.put(container.nextPropertyName(), "true");
+                case VALUE_FALSE -> properties.put(container.nextPropertyName(), "false");
+                // Null values are missing values (the index of array elements is incremented anyway)
+                case VALUE_NULL -> container.nextPropertyName();
+            }
+        }
+        return properties;
+    }
+
+    /**
+     * Open object or array while parsing.
+     */
+    private static final class Container {
+
+        private final String propertyName;
+        private final boolean array;
+        /**
+         * Next index of an array element (only for arrays).
+         */
+        private int nextIndex;
+        /**
+         * Last key name (only for objects).
+         */
+        private String key;
+
+        private Container(String propertyName, boolean array) {
+            this.propertyName = propertyName;
+            this.array = array;
+        }
+
+        /**
+         * Get the property name of the next value in this container.
+         *
+         * @return Property name
+         */
+        private String nextPropertyName() {
+            final var name = this.array ? Integer.toString(this.nextIndex++) : this.key;
+            return this.propertyName.isEmpty() ? name : this.propertyName + "." + name;
+        }
+
+    }
+
+}
@@ -10,18 +10,24 @@ import java.io.InputStream;
 import java.util.List;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.Set;
 
 /**
- * Configuration provider that reads the configuration from the command line.
+ * Configuration provider that reads the configuration from a properties file.
+ * <p>
+ * All property names are indexed at load time (see {@link PropertyNameIndex}), so sub values of a property can be
+ * listed without scanning all properties.
  * <p>
  * FOR INTERNAL USE ONLY. THE API CAN CHANGE AT ANY TIME.
  */
 public final class PropertiesFileConfigurationProvider implements ConfigurationProvider {
 
     private final Properties properties = new Properties();
+    private final PropertyNameIndex propertyNameIndex;
 
     public PropertiesFileConfigurationProvider(InputStream propertiesFile) throws IOException {
         this.properties.load(propertiesFile);
+        this.propertyNameIndex = new PropertyNameIndex(this.properties.stringPropertyNames());
     }
 
     @Override
@@ -31,12 +37,12 @@ public final class PropertiesFileConfigurationProvider implements ConfigurationP
 
     @Override
     public Optional<List<String>> getConfigurationSubValues(String propertyName) {
-        return Optional.of(this.properties.stringPropertyNames()
-                                   .stream()
-                                   .filter(name -> name.startsWith(propertyName + "."))
-                                   .map(name -> name.substring(propertyName.length() + 1))
-                                   .map(name -> name.split("\\.")[0])
-                                   .toList());
+        return Optional.of(this.propertyNameIndex.getSubValues(propertyName));
+    }
+
+    @Override
+    public Optional<Set<String>> getPropertyNames() {
+        return Optional.of(this.properties.stringPropertyNames());
     }
 
 }
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2025 Simon Kerstan
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.simonkerstan.ee.core.configuration;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Index of property names as a prefix tree (one node per name segment separated by {@code .}), so sub values of a
+ * property can be listed without scanning all property names.
+ * <p>
+ * FOR INTERNAL USE ONLY. THE API CAN CHANGE AT ANY TIME.
+ */
+final class PropertyNameIndex {
+
+    /**
+     * Order of the sub values. Numeric segments (e.g., list indices) are ordered by their numeric value and before all
+     * other segments, all other segments are ordered lexicographically.
+     */
+    private static final Comparator<String> SEGMENT_ORDER = (a, b) -> {
+        final var aNumeric = isNumeric(a);
+        final var bNumeric = isNumeric(b);
+        if (aNumeric && bNumeric) {
+            // Compare by length first to support indices of any length without parsing
+            final var lengthComparison = Integer.compare(a.length(), b.length());
+            return lengthComparison != 0 ? lengthComparison : a.compareTo(b);
+        } else if (aNumeric != bNumeric) {
+            return aNumeric ? -1 : 1;
+        }
+        return a.compareTo(b);
+    };
+
+    /**
+     * Root node of the prefix tree.
+     */
+    private final PropertyNode root = new PropertyNode();
+
+    /**
+     * Create a new index.
+     *
+     * @param propertyNames All property names to be indexed
+     */
+    PropertyNameIndex(Collection<String> propertyNames) {
+        for (final var propertyName : propertyNames) {
+            var node = this.root;
+            for (final var segment : propertyName.split("\\.", -1)) {
+                node = node.children.computeIfAbsent(segment, _k -> new PropertyNode());
+            }
+        }
+        this.root.seal();
+    }
+
+    /**
+     * Get the sub values of a property (the next segments of all property names starting with the property name).
+     *
+     * @param propertyName Property name
+     * @return Sub values (each sub value once and in order, empty if there are no sub values)
+     */
+    List<String> getSubValues(String propertyName) {
+        var node = this.root;
+        int start = 0;
+        while (node != null) {
+            final var end = propertyName.indexOf('.', start);
+            if (end < 0) {
+                node = node.children.get(propertyName.substring(start));
+                break;
+            }
+            node = node.children.get(propertyName.substring(start, end));
+            start = end + 1;
+        }
+        return node != null ? node.childNames : List.of();
+    }
+
+    private static boolean isNumeric(String segment) {
+        if (segment.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < segment.length(); i++) {
+            if (segment.charAt(i) < '0' || segment.charAt(i) > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Node of the prefix tree (one segment of a property name).
+     */
+    private static final class PropertyNode {
+
+        private final Map<String, PropertyNode> children = new TreeMap<>(SEGMENT_ORDER);
+        /**
+         * Immutable names of all children (in order). Only set after the tree has been built.
+         */
+        private List<String> childNames = List.of();
+
+        /**
+         * Seal this node and all of its children after the tree has been built.
+         */
+        private void seal() {
+            this.childNames = List.copyOf(this.children.keySet());
+            this.children.values()
+                    .forEach(PropertyNode::seal);
+        }
+
+    }
+
+}
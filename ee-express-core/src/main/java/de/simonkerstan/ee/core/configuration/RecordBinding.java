@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2025 Simon Kerstan
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.simonkerstan.ee.core.configuration;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.RecordComponent;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Binding plan of a record type for configuration properties. The plan is only computed once per record type (see
+ * {@link #of(Class)}), so resolving the same record type again does not look up its components and canonical
+ * constructor again. Map components must have {@link String} keys (the names of the sub values).
+ * <p>
+ * FOR INTERNAL USE ONLY. THE API CAN CHANGE AT ANY TIME.
+ */
+@Slf4j
+final class RecordBinding {
+
+    private static final ClassValue<RecordBinding> BINDINGS = new ClassValue<>() {
+
+        @Override
+        protected RecordBinding computeValue(Class<?> type) {
+            return new RecordBinding(type);
+        }
+
+    };
+
+    private final Class<?> type;
+    private final Component[] components;
+    /**
+     * Canonical constructor ({@code null} if the record type has no accessible canonical constructor).
+     */
+    private final Constructor<?> constructor;
+
+    private RecordBinding(Class<?> type) {
+        this.type = type;
+        final var recordComponents = type.getRecordComponents();
+        this.components = Arrays.stream(recordComponents)
+                .map(Component::of)
+                .toArray(Component[]::new);
+        this.constructor = findCanonicalConstructor(type, recordComponents);
+    }
+
+    /**
+     * Get the binding plan of a record type.
+     *
+     * @param type Record type
+     * @return Binding plan (cached per record type)
+     */
+    static RecordBinding of(Class<?> type) {
+        return BINDINGS.get(type);
+    }
+
+    /**
+     * Get all record components in the order of the canonical constructor.
+     *
+     * @return Record components
+     */
+    Component[] getComponents() {
+        return this.components;
+    }
+
+    /**
+     * Create a new record instance.
+     *
+     * @param parameters Values of all record components (in the order of {@link #getComponents()})
+     * @return Record instance or empty if the record cannot be instantiated
+     */
+    Optional<Object> newInstance(Object[] parameters) {
+        if (this.constructor == null) {
+            log.warn("Cannot instantiate record type {}, no public canonical constructor", this.type.getName());
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(this.constructor.newInstance(parameters));
+        } catch (ReflectiveOperationException | IllegalArgumentException e) {
+            // Report the exception of the constructor itself as cause
+            final var cause = e instanceof InvocationTargetException invocationTargetException
+                    ? invocationTargetException.getCause() : e;
+            log.warn("Cannot instantiate record type {}", this.type.getName(), cause);
+            return Optional.empty();
+        }
+    }
+
+    private static Constructor<?> findCanonicalConstructor(Class<?> type, RecordComponent[] recordComponents) {
+        try {
+            return type.getConstructor(Arrays.stream(recordComponents)
+                                               .map(RecordComponent::getType)
+                                               .toArray(Class[]::new));
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Kind of record component.
+     */
+    enum Kind {
+        /**
+         * Single value (including nested records).
+         */
+        VALUE,
+        /**
+         * List of values (sub values are the list elements).
+         */
+        LIST,
+        /**
+         * Map with string keys (sub values are the map keys).
+         */
+        MAP
+    }
+
+    /**
+     * Component of a record type.
+     *
+     * @param keySuffix   Suffix of the property name of the component (e.g., {@code .port})
+     * @param kind        Kind of the component
+     * @param valueType   Type of the value (the element type for lists and the value type for maps)
+     */
+    record Component(String keySuffix, Kind kind, Class<?> valueType) {
+
+        private static Component of(RecordComponent recordComponent) {
+            final var keySuffix = "." + recordComponent.getName();
+            final var componentType = recordComponent.getType();
+            if (componentType == List.class) {
+                return new Component(keySuffix, Kind.LIST, getTypeArgument(recordComponent.getGenericType(), 0));
+            } else if (componentType == Map.class) {
+                final var keyType = getTypeArgument(recordComponent.getGenericType(), 0);
+                if (keyType != String.class) {
+                    // Map keys are the names of sub values, so they cannot be converted
+                    throw new IllegalArgumentException("Map component " + recordComponent.getName() + " of record type "
+                                                               + recordComponent.getDeclaringRecord()
+                            .getName() + " must have String keys, but has " + keyType.getName() + " keys");
+                }
+                return new Component(keySuffix, Kind.MAP, getTypeArgument(recordComponent.getGenericType(), 1));
+            }
+            return new Component(keySuffix, Kind.VALUE, componentType);
+        }
+
+        /**
+         * Get a type argument of a generic type.
+         *
+         * @param genericType Generic type
+         * @param index       Index of the type argument
+         * @return Type argument or {@link Object} if the type argument is no class (values are bound as strings then)
+         */
+        private static Class<?> getTypeArgument(Type genericType, int index) {
+            if (genericType instanceof ParameterizedType parameterizedType
+                    && parameterizedType.getActualTypeArguments()[index] instanceof Class<?> typeArgument) {
+                return typeArgument;
+            }
+            return Object.class;
+        }
+
+    }
+
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2025 Simon Kerstan
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.simonkerstan.ee.core.configuration;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Configuration provider that reads the configuration from an XML file.
+ * <p>
+ * The file is read in a single streaming pass (no DOM is built). Nested elements are mapped to dotted property names,
+ * the root element is omitted:
+ * <pre>
+ * &lt;configuration&gt;
+ *     &lt;server port="8080"&gt;           server.port=8080
+ *         &lt;host&gt;localhost&lt;/host&gt;     server.host=localhost
+ *     &lt;/server&gt;
+ *     &lt;backends&gt;
+ *         &lt;backend&gt;a&lt;/backend&gt;       backends.backend.0=a
+ *         &lt;backend&gt;b&lt;/backend&gt;       backends.backend.1=b
+ *     &lt;/backends&gt;
+ *     &lt;hosts&gt;
+ *         &lt;host ee-list="true"&gt;a&lt;/host&gt;   hosts.host.0=a
+ *     &lt;/hosts&gt;
+ * &lt;/configuration&gt;
+ * </pre>
+ * Attributes are mapped like child elements, so an attribute and a child element with the same name are a parse error.
+ * Sibling elements with the same name are list elements (indexed by their position). A single element is only a list
+ * element if it is marked with the attribute {@value #LIST_ATTRIBUTE}{@code ="true"} (otherwise, it is indexed as soon
+ * as a second element with the same name follows). Text is trimmed, and whitespace-only text is ignored.
+ * <p>
+ * FOR INTERNAL USE ONLY. THE API CAN CHANGE AT ANY TIME.
+ */
+public final class XmlFileConfigurationProvider implements ConfigurationProvider {
+
+    /**
+     * Attribute to mark an element as list element (not mapped to a property).
+     */
+    public static final String LIST_ATTRIBUTE = "ee-list";
+
+    private final Map<String, String> properties;
+    private final PropertyNameIndex propertyNameIndex;
+
+    public XmlFileConfigurationProvider(InputStream xmlFile) throws IOException {
+        final var parsedProperties = parse(xmlFile);
+        this.properties = new HashMap<>(parsedProperties);
+        this.propertyNameIndex = new PropertyNameIndex(parsedProperties.keySet());
+    }
+
+    @Override
+    public Optional<String> getConfigurationValue(String propertyName) {
+        return Optional.ofNullable(this.properties.get(propertyName));
+    }
+
+    @Override
+    public Optional<List<String>> getConfigurationSubValues(String propertyName) {
+        return Optional.of(this.propertyNameIndex.getSubValues(propertyName));
+    }
+
+    @Override
+    public Optional<Set<String>> getPropertyNames() {
+        return Optional.of(Collections.unmodifiableSet(this.properties.keySet()));
+    }
+
+    private static NavigableMap<String, String> parse(InputStream xmlFile) throws IOException {
+        final var factory = XMLInputFactory.newFactory();
+        // Configuration files must not load any external resources
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+
+        try {
+            final var reader = factory.createXMLStreamReader(xmlFile);
+            try {
+                return parse(reader);
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException e) {
+            throw new IOException("Cannot parse XML configuration file", e);
+        }
+    }
+
+    private static NavigableMap<String, String> parse(XMLStreamReader reader) throws XMLStreamException {
+        // Sorted to find all properties of a list element if it has to be renamed
+        final NavigableMap<String, String> properties = new TreeMap<>();
+        final Deque<Element> elements = new ArrayDeque<>();
+        while (reader.hasNext()) {
+            switch (reader.next()) {
+                case XMLStreamConstants.START_ELEMENT -> {
+                    final var parent = elements.peek();
+                    final var name = reader.getLocalName();
+                    if (parent != null && parent.attributeNames.contains(name)) {
+                        throw new XMLStreamException("Element " + name + " has the same name as an attribute of its "
+                                                             + "parent element", reader.getLocation());
+                    }
+                    final var listElement = "true".equals(reader.getAttributeValue(null, LIST_ATTRIBUTE));
+                    final var element = parent == null
+                            ? new Element("") : parent.startChild(name, listElement, properties);
+                    elements.push(element);
+                    for (int i = 0; i < reader.getAttributeCount(); i++) {
+                        final var attributeName = reader.getAttributeLocalName(i);
+                        if (!LIST_ATTRIBUTE.equals(attributeName)) {
+                            element.attributeNames.add(attributeName);
+                            properties.put(element.childPropertyName(attributeName), reader.getAttributeValue(i));
+                        }
+                    }
+                }
+                case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA -> {
+                    final var element = elements.peek();
+                    if (element != null && !element.propertyName.isEmpty()) {
+                        element.text.append(reader.getText());
+                    }
+                }
+                case XMLStreamConstants.END_ELEMENT -> {
+                    final var element = elements.pop();
+                    final var text = element.text.toString()
+                            .trim();
+                    if (!text.isEmpty()) {
+                        properties.put(element.propertyName, text);
+                    }
+                }
+                default -> {
+                    // Comments, processing instructions etc. are ignored
+                }
+            }
+        }
+        return properties;
+    }
+
+    /**
+     * Open element while parsing.
+     */
+    private static final class Element {
+
+        private final String propertyName;
+        private final StringBuilder text = new StringBuilder();
+        /**
+         * Number of child elements by name.
+         */
+        private final Map<String, Integer> childCounts = new HashMap<>();
+        /**
+         * Names of all child elements which are list elements (their properties are indexed).
+         */
+        private final Set<String> listChildren = new HashSet<>();
+        /**
+         * Names of all attributes (child elements must not have the same names).
+         */
+        private final Set<String> attributeNames = new HashSet<>();
+
+        private Element(String propertyName) {
+            this.propertyName = propertyName;
+        }
+
+        private String childPropertyName(String name) {
+            return this.propertyName.isEmpty() ? name : this.propertyName + "." + name;
+        }
+
+        /**
+         * Start a child element.
+         *
+         * @param name        Name of the child element
+         * @param listElement {@code true} if the child element is marked as list element
+         * @param properties  All properties parsed so far (properties of a previous sibling with the same name are
+         *                    renamed because it is a list element)
+         * @return Child element
+         */
+        private Element startChild(String name, boolean listElement, NavigableMap<String, String> properties) {
+            final var childPropertyName = this.childPropertyName(name);
+            final int index = this.childCounts.merge(name, 1, Integer::sum) - 1;
+            if (index == 0) {
+                if (!listElement) {
+                    return new Element(childPropertyName);
+                }
+                this.listChildren.add(name);
+            } else if (this.listChildren.add(name)) {
+                // Second element with the same name, so the first element is a list element, too
+                renameProperties(properties, childPropertyName, childPropertyName + ".0");
+            }
+            return new Element(childPropertyName + "." + index);
+        }
+
+        private static void renameProperties(NavigableMap<String, String> properties, String oldPropertyName,
+                                              String newPropertyName) {
+            final Map<String, String> renamedProperties = new HashMap<>();
+            final var value = properties.remove(oldPropertyName);
+            if (value != null) {
+                renamedProperties.put(newPropertyName, value);
+            }
+
+            // All sub properties (they start with "name.", and '/' is the next character after '.')
+            final var subProperties = properties.subMap(oldPropertyName + ".", true, oldPropertyName + "/", false);
+            subProperties.forEach((subPropertyName, subValue) -> renamedProperties.put(
+                    newPropertyName + subPropertyName.substring(oldPropertyName.length()), subValue));
+            subProperties.clear();
+            properties.putAll(renamedProperties);
+        }
+
+    }
+
+}
@@ -28,9 +28,23 @@ class BeanInformation {
     private Class<?> beanType;
     private int priority = BeanPriority.DEFAULT_PRIORITY;
     private boolean singleton = false;
+    /**
+     * {@code true} if the bean should be created lazily, {@code false} if not ({@code null} to use the default).
+     */
+    private Boolean lazy;
     private Constructor<?> constructor;
     private Object beanInstance;
 
+    /**
+     * Test whether the bean should be created lazily.
+     *
+     * @param lazyDefault Default if the bean has no explicit setting
+     * @return {@code true} if the bean should be created lazily, {@code false} otherwise
+     */
+    public boolean isLazy(boolean lazyDefault) {
+        return this.lazy != null ? this.lazy : lazyDefault;
+    }
+
     /**
      * Create a new instance of {@link BeanCreationInformation} from this bean information.
      *
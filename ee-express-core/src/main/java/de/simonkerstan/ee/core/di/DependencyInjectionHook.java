@@ -6,6 +6,7 @@
 package de.simonkerstan.ee.core.di;
 
 import de.simonkerstan.ee.core.annotations.BeanPriority;
+import de.simonkerstan.ee.core.annotations.Lazy;
 import de.simonkerstan.ee.core.clazz.ClassHook;
 import de.simonkerstan.ee.core.clazz.ClassInterfacesHook;
 import de.simonkerstan.ee.core.clazz.ConstructorHook;
@@ -15,12 +16,15 @@ import de.simonkerstan.ee.core.di.graph.ObjectBeanCreationInformation;
 import de.simonkerstan.ee.core.modules.BeanInstanceProvider;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 
 /**
  * Hook for dependency injection used by the class scanning mechanism.
@@ -31,7 +35,13 @@ import java.util.*;
 public class DependencyInjectionHook implements ClassHook, ClassInterfacesHook, ConstructorHook, MethodHook,
         BeanInstanceProvider {
 
+    private static final String JAX_RS_PATH_ANNOTATION = "jakarta.ws.rs.Path";
+
     private final Map<Class<?>, Object> beans = new HashMap<>();
+    /**
+     * Map of all lazy beans which have not been required at startup. (type -> lazy bean)
+     */
+    private final Map<Class<?>, Supplier<Object>> lazyBeans = new HashMap<>();
 
     /**
      * Map of all unprocessed beans. (concrete implementation class -> bean information)
@@ -42,6 +52,20 @@ public class DependencyInjectionHook implements ClassHook, ClassInterfacesHook,
      */
     private final Map<Class<?>, Object> frameworkModuleBeans = new HashMap<>();
     private final DependencyGraph dependencyGraph = new DependencyGraph();
+    /**
+     * {@code true} if all beans without {@link Lazy} annotation should be created lazily, {@code false} otherwise.
+     */
+    @Setter
+    private boolean lazyDefault = false;
+    /**
+     * {@code true} if only beans reachable from the root types should be created, {@code false} otherwise.
+     */
+    @Setter
+    private boolean pruneUnreachableBeans = false;
+    /**
+     * Root types for pruning (e.g., the main application class).
+     */
+    private final Set<Class<?>> rootTypes = new HashSet<>();
 
     /*
     This hook gets all annotated methods and classes used by Jakarta CDI and creates all beans and contexts after
@@ -51,7 +75,7 @@ public class DependencyInjectionHook implements ClassHook, ClassInterfacesHook,
     @SuppressWarnings("unchecked")
     @Override
     public Class<? extends Annotation>[] getClassAnnotations() {
-        return new Class[]{Singleton.class, BeanPriority.class};
+        return new Class[]{Singleton.class, BeanPriority.class, Lazy.class};
     }
 
     @SuppressWarnings("unchecked")
@@ -76,6 +100,9 @@ public class DependencyInjectionHook implements ClassHook, ClassInterfacesHook,
         } else if (annotation == BeanPriority.class) {
             // Bean priority (class annotation)
             beanInformation.setPriority(((BeanPriority) annotationInstance).value());
+        } else if (annotation == Lazy.class) {
+            // Lazy bean (class annotation)
+            beanInformation.setLazy(((Lazy) annotationInstance).value());
         }
     }
 
@@ -92,6 +119,12 @@ public class DependencyInjectionHook implements ClassHook, ClassInterfacesHook,
         }
     }
 
+    @Override
+    public boolean isDefaultConstructorRequired() {
+        // Only classes with a default constructor are added in processClassInterfaces
+        return true;
+    }
+
     @Override
     public void processConstructor(Constructor<?> constructor, Class<? extends Annotation> annotation,
                                    Annotation annotationInstance) {
@@ -117,17 +150,18 @@ public class DependencyInjectionHook implements ClassHook, ClassInterfacesHook,
 
     @SuppressWarnings("unchecked")
     @Override
-    public <T> Optional<T> getBeanInstance(Class<T> type) {
+    public synchronized <T> Optional<T> getBeanInstance(Class<T> type) {
         // This method is used in the framework module loading mechanism to get all created beans from other modules.
+        // Synchronized because independent framework modules can be initialized concurrently.
         return Optional.ofNullable((T) this.frameworkModuleBeans.get(type));
     }
 
     /**
-     * Add a bean provider from a framework module.
+     * Add a bean provider from a framework module. Bean providers of independent modules can be added concurrently.
      *
      * @param beanProvider Bean provider to be added
      */
-    public void addBeanProvider(BeanProvider<?> beanProvider) {
+    public synchronized void addBeanProvider(BeanProvider<?> beanProvider) {
         final var beanCreationInformation = new ObjectBeanCreationInformation(beanProvider.instance());
         this.dependencyGraph.addBean(beanProvider.priority(), beanProvider.type(), beanCreationInformation);
         // Add the bean to the framework module map to be retrieved later in {@link #getBeanInstance(Class)}
@@ -135,7 +169,17 @@ public class DependencyInjectionHook implements ClassHook, ClassInterfacesHook,
     }
 
     /**
-     * Get an instantiated bean of the given class.
+     * Add a root type. If unreachable beans are pruned, only root beans and all beans required by them are created.
+     * Beans explicitly marked as eager ({@code @Lazy(false)}) and JAX-RS resources are always roots.
+     *
+     * @param type Root type (e.g., the main application class)
+     */
+    public void addRootType(Class<?> type) {
+        this.rootTypes.add(type);
+    }
+
+    /**
+     * Get a bean of the given class. Lazy beans are created on the first call.
      *
      * @param clazz Class of the bean
      * @param <T>   Bean type
@@ -143,11 +187,16 @@ public class DependencyInjectionHook implements ClassHook, ClassInterfacesHook,
      */
     @SuppressWarnings("unchecked")
     public <T> T getBean(Class<T> clazz) {
-        return (T) this.beans.get(clazz);
+        if (this.beans.containsKey(clazz)) {
+            return (T) this.beans.get(clazz);
+        }
+
+        final var lazyBean = this.lazyBeans.get(clazz);
+        return lazyBean != null ? (T) lazyBean.get() : null;
     }
 
     /**
-     * Get all instantiated beans.
+     * Get all instantiated beans (without lazy beans which have not been required at startup).
      *
      * @return Beans
      */
@@ -155,17 +204,83 @@ public class DependencyInjectionHook implements ClassHook, ClassInterfacesHook,
         return Collections.unmodifiableMap(this.beans);
     }
 
+    /**
+     * Get all lazy beans which have not been required at startup. They are created on the first call of
+     * {@link Supplier#get()}.
+     *
+     * @return Lazy beans
+     */
+    public Map<Class<?>, Supplier<?>> getLazyBeans() {
+        return Collections.unmodifiableMap(this.lazyBeans);
+    }
+
     /**
      * Process all scanned classes and methods to create beans and contexts.
      */
     public void postProcess() {
+        this.postProcess(null);
+    }
+
+    /**
+     * Process all scanned classes and methods to create beans and contexts.
+     *
+     * @param executor Executor to instantiate independent beans concurrently ({@code null} to instantiate all beans
+     *                 sequentially)
+     */
+    public void postProcess(Executor executor) {
         this.unprocessedBeans.forEach((clazz, beanInformation) -> {
+            // If unreachable beans are pruned, all non-root beans are lazy and only created if a root requires them
+            final var lazy = this.pruneUnreachableBeans ? !this.isRootBean(clazz, beanInformation)
+                    : beanInformation.isLazy(this.lazyDefault);
             this.dependencyGraph.addBean(beanInformation.getPriority(), clazz,
-                                         beanInformation.createBeanCreationInformation());
+                                         beanInformation.createBeanCreationInformation(), lazy);
         });
 
-        final var beans = this.dependencyGraph.instantiateBeans();
+        final var beans = this.dependencyGraph.instantiateBeans(executor);
         this.beans.putAll(beans);
+        if (this.pruneUnreachableBeans) {
+            // Beans not created yet are only kept if they are reachable via providers
+            final var unreachableTypes = this.dependencyGraph.getUnreachableTypes();
+            this.dependencyGraph.getLazyBeans()
+                    .forEach((type, lazyBean) -> {
+                        if (!unreachableTypes.contains(type)) {
+                            this.lazyBeans.put(type, lazyBean);
+                        }
+                    });
+            if (!unreachableTypes.isEmpty()) {
+                log.info("Skipped {} bean type(s) unreachable from the root beans: {}", unreachableTypes.size(),
+                         unreachableTypes.stream()
+                                 .map(Class::getName)
+                                 .sorted()
+                                 .toList());
+            }
+        } else {
+            this.lazyBeans.putAll(this.dependencyGraph.getLazyBeans());
+        }
+    }
+
+    private boolean isRootBean(Class<?> clazz, BeanInformation beanInformation) {
+        return this.rootTypes.contains(clazz) || Boolean.FALSE.equals(beanInformation.getLazy())
+                || isJaxRsResource(clazz);
+    }
+
+    /**
+     * Test whether a class is a JAX-RS resource (the class or one of its methods is annotated with {@code @Path}). The
+     * annotation is compared by name because the core module does not depend on JAX-RS.
+     *
+     * @param clazz Class to be tested
+     * @return {@code true} if the class is a JAX-RS resource, {@code false} otherwise
+     */
+    private static boolean isJaxRsResource(Class<?> clazz) {
+        return Arrays.stream(clazz.getAnnotations())
+                .anyMatch(DependencyInjectionHook::isJaxRsPathAnnotation) || Arrays.stream(clazz.getDeclaredMethods())
+                .flatMap(method -> Arrays.stream(method.getAnnotations()))
+                .anyMatch(DependencyInjectionHook::isJaxRsPathAnnotation);
+    }
+
+    private static boolean isJaxRsPathAnnotation(Annotation annotation) {
+        return JAX_RS_PATH_ANNOTATION.equals(annotation.annotationType()
+                                                     .getName());
     }
 
 }
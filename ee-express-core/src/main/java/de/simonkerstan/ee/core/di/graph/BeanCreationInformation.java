@@ -7,6 +7,8 @@ package de.simonkerstan.ee.core.di.graph;
 
 import de.simonkerstan.ee.core.exceptions.BeanInstantiationException;
 
+import java.util.Optional;
+
 /**
  * Necessary information for bean creation.
  */
@@ -19,6 +21,28 @@ public interface BeanCreationInformation {
      */
     Class<?>[] getDependencies();
 
+    /**
+     * Test whether a dependency is injected via a {@link jakarta.inject.Provider}. Then, the dependency type is the
+     * type provided by the provider.
+     *
+     * @param index Index of the dependency
+     * @return {@code true} if the dependency is injected via a provider, {@code false} if the bean is injected directly
+     */
+    default boolean isProviderDependency(int index) {
+        return false;
+    }
+
+    /**
+     * Get the configuration property injected into a dependency. Then, the dependency type is
+     * {@link de.simonkerstan.ee.core.configuration.Configuration}.
+     *
+     * @param index Index of the dependency
+     * @return Injected configuration property or empty if a bean is injected
+     */
+    default Optional<ConfigurationInjectionPoint> getConfigurationInjectionPoint(int index) {
+        return Optional.empty();
+    }
+
     /**
      * Create a bean instance with the given parameters. This method is allowed to only create a bean instance
      * one-time and reuse it for all following calls.
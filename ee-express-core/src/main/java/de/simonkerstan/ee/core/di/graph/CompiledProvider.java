@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2025 Simon Kerstan
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.simonkerstan.ee.core.di.graph;
+
+import de.simonkerstan.ee.core.exceptions.BeanInstantiationException;
+import jakarta.inject.Provider;
+import lombok.RequiredArgsConstructor;
+
+import java.util.function.Supplier;
+
+/**
+ * Provider for {@link Provider} injection points. The constructor parameters of the provided bean are resolved once on
+ * the first call, so every further call is only one call of the bean factory (a new instance for non-singleton beans,
+ * the same instance for singleton beans).
+ */
+@RequiredArgsConstructor
+final class CompiledProvider implements Provider<Object> {
+
+    private final Class<?> type;
+    private final BeanCreationInformation beanCreationInformation;
+    /**
+     * Resolver for the constructor parameters of the provided bean.
+     */
+    private final Supplier<Object[]> parameterResolver;
+    private volatile Object[] parameters;
+
+    /**
+     * Get an instance of the provided bean.
+     *
+     * @return Bean instance
+     * @throws BeanInstantiationException If the bean or one of its dependencies cannot be instantiated
+     */
+    @Override
+    public Object get() throws BeanInstantiationException {
+        var resolvedParameters = this.parameters;
+        if (resolvedParameters == null) {
+            synchronized (this) {
+                resolvedParameters = this.parameters;
+                if (resolvedParameters == null) {
+                    resolvedParameters = this.parameterResolver.get();
+                    this.parameters = resolvedParameters;
+                }
+            }
+        }
+        return this.beanCreationInformation.createBean(resolvedParameters);
+    }
+
+    @Override
+    public String toString() {
+        return "Provider<" + this.type.getName() + ">";
+    }
+
+}
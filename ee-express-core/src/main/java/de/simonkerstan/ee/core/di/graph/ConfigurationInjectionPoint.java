@@ -0,0 +1,18 @@
+/*
+ * Copyright (c) 2025 Simon Kerstan
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.simonkerstan.ee.core.di.graph;
+
+import java.lang.reflect.Type;
+
+/**
+ * Constructor parameter which is injected with the value of a configuration property.
+ *
+ * @param propertyName Name of the property
+ * @param type         Generic type of the parameter
+ * @param defaultValue Default value if the property is missing ({@code null} if the property is required)
+ */
+public record ConfigurationInjectionPoint(String propertyName, Type type, String defaultValue) {
+}
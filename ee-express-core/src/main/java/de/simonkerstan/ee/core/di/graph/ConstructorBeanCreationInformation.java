@@ -5,25 +5,82 @@
 
 package de.simonkerstan.ee.core.di.graph;
 
+import de.simonkerstan.ee.core.annotations.ConfigProperty;
+import de.simonkerstan.ee.core.configuration.Configuration;
 import de.simonkerstan.ee.core.exceptions.BeanInstantiationException;
-import lombok.RequiredArgsConstructor;
+import jakarta.inject.Provider;
 import lombok.extern.slf4j.Slf4j;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
 import java.util.Arrays;
+import java.util.Optional;
 
 /**
  * Necessary information for bean creation (when using a constructor).
  */
 @Slf4j
-@RequiredArgsConstructor
 public final class ConstructorBeanCreationInformation implements BeanCreationInformation {
 
     private final Constructor<?> constructor;
     private final boolean singleton;
+    /**
+     * Dependencies of the bean (the provided type for {@link Provider} parameters).
+     */
+    private final Class<?>[] dependencies;
+    /**
+     * {@code true} for all {@link Provider} parameters, {@code false} for all other parameters.
+     */
+    private final boolean[] providerDependencies;
+    /**
+     * Injected configuration properties ({@code null} for all parameters without {@link ConfigProperty}).
+     */
+    private final ConfigurationInjectionPoint[] configurationInjectionPoints;
+    /**
+     * Singleton bean (only set for singleton beans).
+     */
     private Object bean;
 
+    /**
+     * Create a new instance of {@link ConstructorBeanCreationInformation}.
+     *
+     * @param constructor Constructor to create the bean
+     * @param singleton   {@code true} if the bean should be a singleton, {@code false} otherwise
+     */
+    public ConstructorBeanCreationInformation(Constructor<?> constructor, boolean singleton) {
+        this.constructor = constructor;
+        this.singleton = singleton;
+
+        final var parameterTypes = constructor.getParameterTypes();
+        final var genericParameterTypes = constructor.getGenericParameterTypes();
+        this.dependencies = new Class<?>[parameterTypes.length];
+        this.providerDependencies = new boolean[parameterTypes.length];
+        this.configurationInjectionPoints = new ConfigurationInjectionPoint[parameterTypes.length];
+        final var parameters = constructor.getParameters();
+        for (int i = 0; i < parameterTypes.length; i++) {
+            // Generic parameter types do not contain synthetic parameters (e.g., of inner classes), so they are only
+            // used if they match the parameters
+            final var genericParameterType = genericParameterTypes.length == parameterTypes.length
+                    ? genericParameterTypes[i] : parameterTypes[i];
+            final var configProperty = parameters[i].getAnnotation(ConfigProperty.class);
+            if (configProperty != null) {
+                // Configuration properties are resolved from the configuration bean
+                this.configurationInjectionPoints[i] = new ConfigurationInjectionPoint(
+                        configProperty.value(), genericParameterType,
+                        ConfigProperty.NO_DEFAULT_VALUE.equals(configProperty.defaultValue())
+                                ? null : configProperty.defaultValue());
+                this.dependencies[i] = Configuration.class;
+                continue;
+            }
+
+            final var providedType = getProvidedType(genericParameterType);
+            this.providerDependencies[i] = providedType != null;
+            this.dependencies[i] = providedType != null ? providedType : parameterTypes[i];
+        }
+    }
+
     /**
      * Create a new instance of {@link ConstructorBeanCreationInformation} from an existing one.
      *
@@ -38,26 +95,63 @@ public final class ConstructorBeanCreationInformation implements BeanCreationInf
 
     @Override
     public Class<?>[] getDependencies() {
-        return this.constructor.getParameterTypes();
+        return this.dependencies.clone();
+    }
+
+    @Override
+    public boolean isProviderDependency(int index) {
+        return this.providerDependencies[index];
+    }
+
+    @Override
+    public Optional<ConfigurationInjectionPoint> getConfigurationInjectionPoint(int index) {
+        return Optional.ofNullable(this.configurationInjectionPoints[index]);
     }
 
     @Override
     public Object createBean(Object... parameters) {
-        if (this.singleton && this.bean != null) {
-            // Create singleton beans only once
+        if (!this.singleton) {
+            return this.newInstance(parameters);
+        }
+
+        // Synchronized because the same information is shared by all types of a bean, which can be instantiated
+        // concurrently
+        synchronized (this) {
+            if (this.bean == null) {
+                // Create singleton beans only once
+                this.bean = this.newInstance(parameters);
+            }
             return this.bean;
         }
+    }
 
+    private Object newInstance(Object... parameters) throws BeanInstantiationException {
         try {
-            this.bean = this.constructor.newInstance(parameters);
-            return this.bean;
+            return this.constructor.newInstance(parameters);
         } catch (Exception e) {
             log.debug("Parameter types are {}.", Arrays.asList(this.constructor.getParameterTypes()));
             log.debug("Parameters are {}.", parameters);
-            // We catch generic "Exception" because this could be any in an unknown constructor
+            // We catch generic "Exception" because this could be any in an unknown constructor (reported as cause)
+            final var cause = e instanceof InvocationTargetException invocationTargetException
+                    ? invocationTargetException.getCause() : e;
             throw new BeanInstantiationException("Cannot create bean with type " + this.constructor.getDeclaringClass()
-                    .getName(), e);
+                    .getName(), cause);
+        }
+    }
+
+    /**
+     * Get the type provided by a {@link Provider} parameter.
+     *
+     * @param parameterType Generic parameter type
+     * @return Provided type or {@code null} if the parameter is no provider of a class type
+     */
+    private static Class<?> getProvidedType(Type parameterType) {
+        if (parameterType instanceof ParameterizedType parameterizedType
+                && parameterizedType.getRawType() == Provider.class
+                && parameterizedType.getActualTypeArguments()[0] instanceof Class<?> providedType) {
+            return providedType;
         }
+        return null;
     }
 
 }
@@ -5,10 +5,20 @@
 
 package de.simonkerstan.ee.core.di.graph;
 
+import de.simonkerstan.ee.core.configuration.Configuration;
 import de.simonkerstan.ee.core.exceptions.BeanInstantiationException;
+import jakarta.inject.Provider;
 import lombok.extern.slf4j.Slf4j;
 
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
 
 /**
  * Graph with all beans and their dependencies.
@@ -28,6 +38,28 @@ public final class DependencyGraph {
      * Map of all unresolved dependencies. (class name -> list of unsatisfied consumers)
      */
     private final Map<String, List<DependencyGraphNode>> unresolvedDependencies = new HashMap<>();
+    /**
+     * Map of all lazy beans which are not required by any other bean after the instantiation. (type -> lazy bean)
+     */
+    private final Map<Class<?>, Supplier<Object>> lazyBeans = new HashMap<>();
+    /**
+     * Bean of every node (created on first access). Only available after {@link #instantiateBeans(Executor)}.
+     */
+    private final Map<DependencyGraphNode, LazyBean> nodeBeans = new HashMap<>();
+    /**
+     * Resolved configuration properties of every bean creation information with {@link ConfigurationInjectionPoint}s
+     * (by parameter index, {@code null} for all other parameters). The same information is shared by all nodes of a
+     * bean, so it is compared by identity. Only available after {@link #instantiateBeans(Executor)}.
+     */
+    private final Map<BeanCreationInformation, Object[]> configurationValues = new IdentityHashMap<>();
+    /**
+     * Cache of all providers for {@link Provider} injection points. (node -> provider)
+     */
+    private final Map<DependencyGraphNode, Provider<Object>> providers = new ConcurrentHashMap<>();
+    /**
+     * Types of all nodes which are neither required by a non-lazy node nor reachable via a {@link Provider}.
+     */
+    private final Set<Class<?>> unreachableTypes = new HashSet<>();
 
     /**
      * Add a bean to the graph. The graph will automatically resolve all possible types that could be provided by
@@ -38,9 +70,24 @@ public final class DependencyGraph {
      * @param beanCreationInformation Bean information
      */
     public void addBean(int priority, Class<?> type, BeanCreationInformation beanCreationInformation) {
+        this.addBean(priority, type, beanCreationInformation, false);
+    }
+
+    /**
+     * Add a bean to the graph. The graph will automatically resolve all possible types that could be provided by
+     * the bean.
+     *
+     * @param priority                Priority of the bean
+     * @param type                    Type of the bean
+     * @param beanCreationInformation Bean information
+     * @param lazy                    {@code true} if the bean should only be created when it is required by another
+     *                                bean or looked up, {@code false} otherwise
+     */
+    public void addBean(int priority, Class<?> type, BeanCreationInformation beanCreationInformation, boolean lazy) {
         Arrays.stream(ProvidedTypesResolver.resolve(type))
                 // Add all resolved types to the graph
-                .forEach(resolvedType -> this.insertOneBeanType(priority, resolvedType, beanCreationInformation, true));
+                .forEach(resolvedType -> this.insertOneBeanType(priority, resolvedType, beanCreationInformation, lazy,
+                                                                true));
     }
 
     /**
@@ -65,12 +112,53 @@ public final class DependencyGraph {
     }
 
     /**
-     * Instantiate all beans in the graph.
+     * Get all lazy beans which were not instantiated by {@link #instantiateBeans(Executor)} because no other bean
+     * requires them. The beans are created on the first call of {@link Supplier#get()} (thread-safe and only once per
+     * type).
+     *
+     * @return Map of lazy beans (type -> lazy bean)
+     */
+    public Map<Class<?>, Supplier<Object>> getLazyBeans() {
+        return Collections.unmodifiableMap(this.lazyBeans);
+    }
+
+    /**
+     * Get the types of all beans which cannot be reached from any non-lazy bean (neither directly nor via a
+     * {@link Provider}). Only available after {@link #instantiateBeans(Executor)}.
+     *
+     * @return Types of unreachable beans
+     */
+    public Set<Class<?>> getUnreachableTypes() {
+        return Collections.unmodifiableSet(this.unreachableTypes);
+    }
+
+    /**
+     * Instantiate all beans in the graph sequentially.
      *
      * @return Map of instantiated beans
      * @throws BeanInstantiationException If instantiation fails for one of the beans or dependencies are unresolvable
      */
     public Map<Class<?>, Object> instantiateBeans() throws BeanInstantiationException {
+        return this.instantiateBeans(null);
+    }
+
+    /**
+     * Instantiate all beans in the graph. If an executor is given, all beans without a path between them (all beans in
+     * the same layer of the graph) are instantiated concurrently. Lazy beans are only instantiated if another
+     * (non-lazy) bean requires them, all other lazy beans are available via {@link #getLazyBeans()} afterward.
+     *
+     * @param executor Executor for the parallel instantiation ({@code null} to instantiate all beans sequentially)
+     * @return Map of instantiated beans
+     * @throws BeanInstantiationException If instantiation fails for one of the beans or dependencies are unresolvable
+     */
+    public Map<Class<?>, Object> instantiateBeans(Executor executor) throws BeanInstantiationException {
+        // Beans injected via providers must exist, too (but they are no dependencies for the instantiation order)
+        this.nodes.values()
+                .forEach(node -> getProviderDependencies(node.getBeanCreationInformation()).stream()
+                        .map(Class::getName)
+                        .filter(typeName -> !this.nodes.containsKey(typeName))
+                        .forEach(typeName -> this.unresolvedDependencies.computeIfAbsent(typeName,
+                                                                                         _k -> new ArrayList<>())));
         if (this.hasUnresolvedDependencies()) {
             // Not all dependencies are resolvable after scanning all classes for @Inject.
             // There could be beans with a default constructor which could be without any annotation. We must now try
@@ -84,79 +172,377 @@ public final class DependencyGraph {
             }
         }
 
-        // Get the number of all beans. If there are more tries than that number to instantiate a bean, a cyclic
-        // dependency exists!
-        final int numberOfBeans = this.nodes.size();
-        final Map<Class<?>, Integer> instantiationTries = new HashMap<>();
-
-        // Create a copy of all nodes to allow removing already instantiated beans
-        final Map<String, DependencyGraphNode> allNodes = new HashMap<>(this.nodes);
-
         // Create the result map
         final Map<Class<?>, Object> beans = new HashMap<>();
 
-        /*
-        A special algorithm is used to instantiate all beans:
-        - Make a copy of the graph
-        - Get all remaining nodes
-        - Pick the first one and instantiate it with all dependencies recursively
-            - Do this by using the first one as root of a dependency tree
-        - Remove all instantiated beans from the graph copy
-        - Repeat until no more nodes are left
-         */
-
-        // Create a list of all remaining nodes that must be processed
-        List<DependencyGraphNode> remainingNodes;
-        while (!allNodes.isEmpty()) {
-            remainingNodes = new ArrayList<>(allNodes.values());
-            final var firstOne = remainingNodes.get(0);
-            final Queue<DependencyGraphNode> queue = new LinkedList<>();
-            queue.add(firstOne);
-
-            // Traverse the dependency tree
-            DependencyGraphNode node;
-            while ((node = queue.poll()) != null) {
-                // Check for instantiation count
-                final int instantiationCount = instantiationTries.computeIfAbsent(node.getType(), _k -> 0) + 1;
-                if (instantiationCount > numberOfBeans) {
-                    throw new BeanInstantiationException("Cyclic dependency detected");
-                }
-                instantiationTries.put(node.getType(), instantiationCount);
-
-                // Check if the bean has all dependencies instantiated already
-                boolean hasAllDependenciesInstantiated = true;
-                for (final var dep : node.getDependencies()) {
-                    if (!beans.containsKey(dep.getType())) {
-                        // Dependency is not yet instantiated
-                        hasAllDependenciesInstantiated = false;
-                        queue.add(dep);
+        // Every bean is created on its first access (by a dependent bean, a provider or the instantiation below)
+        final var layers = this.computeInstantiationLayers();
+        this.nodeBeans.clear();
+        this.providers.clear();
+        this.nodes.values()
+                .forEach(node -> this.nodeBeans.put(node, new LazyBean(node.getType(),
+                                                                       node.getBeanCreationInformation(),
+                                                                       () -> this.resolveParameters(node))));
+        // Configuration properties are resolved for all beans (also lazy ones), so missing properties fail now
+        this.resolveConfigurationValues();
+
+        // Instantiate the beans layer by layer (all dependencies of a layer are in the previous layers)
+        final var requiredNodes = this.computeReachableNodes(false);
+        for (final var layer : layers) {
+            final var requiredLayer = layer.stream()
+                    .filter(requiredNodes::contains)
+                    .map(this.nodeBeans::get)
+                    .toList();
+            if (executor == null || requiredLayer.size() <= 1) {
+                requiredLayer.forEach(nodeBean -> beans.put(nodeBean.getType(), nodeBean.get()));
+            } else {
+                instantiateLayerInParallel(requiredLayer, beans, executor);
+            }
+        }
+
+        // Register all remaining lazy beans to be created on demand
+        final var reachableNodes = this.computeReachableNodes(true);
+        this.lazyBeans.clear();
+        this.unreachableTypes.clear();
+        this.nodes.values()
+                .stream()
+                .filter(node -> !requiredNodes.contains(node))
+                .forEach(node -> {
+                    this.lazyBeans.put(node.getType(), this.nodeBeans.get(node));
+                    if (!reachableNodes.contains(node)) {
+                        this.unreachableTypes.add(node.getType());
                     }
+                });
+
+        return beans;
+    }
+
+    /**
+     * Compute all nodes reachable from the non-lazy nodes. These are all non-lazy nodes and all their (transitive)
+     * dependencies.
+     *
+     * @param includeProviders {@code true} if beans injected via providers are reachable, too, {@code false} if only
+     *                         beans required for the instantiation are reachable
+     * @return Reachable nodes
+     */
+    private Set<DependencyGraphNode> computeReachableNodes(boolean includeProviders) {
+        final Set<DependencyGraphNode> reachableNodes = new HashSet<>();
+        final Deque<DependencyGraphNode> pendingNodes = new ArrayDeque<>();
+        this.nodes.values()
+                .stream()
+                .filter(node -> !node.isLazy())
+                .forEach(pendingNodes::add);
+        while (!pendingNodes.isEmpty()) {
+            final var node = pendingNodes.pop();
+            if (reachableNodes.add(node)) {
+                pendingNodes.addAll(this.getCurrentDependencies(node));
+                if (includeProviders) {
+                    getProviderDependencies(node.getBeanCreationInformation()).forEach(
+                            type -> pendingNodes.add(this.nodes.get(type.getName())));
+                }
+            }
+        }
+        return reachableNodes;
+    }
+
+    /**
+     * Resolve the constructor parameters of a node. Dependencies are taken from the beans of their nodes (created if
+     * necessary), provider dependencies are resolved to the (cached) provider of their node, and configuration
+     * properties are taken from the values resolved at instantiation.
+     *
+     * @param node Node
+     * @return Parameters for {@link BeanCreationInformation#createBean(Object...)}
+     * @throws BeanInstantiationException If a dependency cannot be instantiated
+     */
+    private Object[] resolveParameters(DependencyGraphNode node) throws BeanInstantiationException {
+        final var beanCreationInformation = node.getBeanCreationInformation();
+        final var dependencies = beanCreationInformation.getDependencies();
+        final var parameters = new Object[dependencies.length];
+        for (int i = 0; i < dependencies.length; i++) {
+            if (beanCreationInformation.getConfigurationInjectionPoint(i)
+                    .isPresent()) {
+                parameters[i] = this.configurationValues.get(beanCreationInformation)[i];
+                continue;
+            }
+
+            final var dependencyNode = this.nodes.get(dependencies[i].getName());
+            if (beanCreationInformation.isProviderDependency(i)) {
+                parameters[i] = this.providers.computeIfAbsent(dependencyNode, _k -> new CompiledProvider(
+                        dependencyNode.getType(), dependencyNode.getBeanCreationInformation(),
+                        () -> this.resolveParameters(dependencyNode)));
+            } else {
+                parameters[i] = this.nodeBeans.get(dependencyNode)
+                        .get();
+            }
+        }
+        return parameters;
+    }
+
+    /**
+     * Resolve the configuration properties of all nodes with {@link ConfigurationInjectionPoint}s. The properties are
+     * resolved only once per bean creation information (shared by all nodes of a bean), so every missing property is
+     * reported once. The configuration bean is created for this if necessary.
+     *
+     * @throws BeanInstantiationException If a required property is missing or cannot be converted
+     */
+    private void resolveConfigurationValues() throws BeanInstantiationException {
+        this.configurationValues.clear();
+        final List<String> missingProperties = new ArrayList<>();
+        Configuration configuration = null;
+        // Bean creation information which is already resolved (or has no injection points)
+        final Set<BeanCreationInformation> resolvedInformation = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (final var node : this.nodes.values()) {
+            final var beanCreationInformation = node.getBeanCreationInformation();
+            if (!resolvedInformation.add(beanCreationInformation)) {
+                continue;
+            }
+
+            final var dependencies = beanCreationInformation.getDependencies();
+            Object[] values = null;
+            for (int i = 0; i < dependencies.length; i++) {
+                final var injectionPoint = beanCreationInformation.getConfigurationInjectionPoint(i)
+                        .orElse(null);
+                if (injectionPoint == null) {
+                    continue;
                 }
 
-                if (hasAllDependenciesInstantiated) {
-                    // Instantiate bean
-                    final var constructionParams = Arrays.stream(node.getBeanCreationInformation()
-                                                                         .getDependencies())
-                            // Get instantiated dependency beans
-                            .map(beans::get)
-                            .toArray();
-
-                    // Add the bean to the result map
-                    final var bean = node.getBeanCreationInformation()
-                            .createBean(constructionParams);
-                    beans.put(node.getType(), bean);
-
-                    // Remove the instantiated bean from the graph copy
-                    allNodes.remove(node.getType()
-                                            .getName());
+                if (configuration == null) {
+                    configuration = (Configuration) this.nodeBeans.get(this.nodes.get(Configuration.class.getName()))
+                            .get();
+                }
+                if (values == null) {
+                    values = new Object[dependencies.length];
+                }
+                final var value = resolveConfigurationValue(configuration, injectionPoint);
+                if (value.isPresent()) {
+                    values[i] = value.get();
                 } else {
-                    // Bean has unsatisfied dependencies
-                    queue.add(node);
+                    missingProperties.add(injectionPoint.propertyName() + " (" + node.getType()
+                            .getName() + ")");
                 }
             }
+            if (values != null) {
+                this.configurationValues.put(beanCreationInformation, values);
+            }
         }
 
-        return beans;
+        if (!missingProperties.isEmpty()) {
+            log.error("Missing or invalid configuration properties: {}", missingProperties);
+            throw new BeanInstantiationException("Cannot instantiate beans due to missing configuration properties "
+                                                         + missingProperties);
+        }
+    }
+
+    /**
+     * Resolve the value of one configuration property. Lists and maps are read with their element type, empty lists
+     * and maps are missing (like in records).
+     *
+     * @param configuration  Configuration
+     * @param injectionPoint Injected configuration property
+     * @return Value (or default value) of the property or empty if the property is missing or cannot be converted
+     * @throws BeanInstantiationException If the type of the parameter is not supported
+     */
+    private static Optional<Object> resolveConfigurationValue(Configuration configuration,
+                                                              ConfigurationInjectionPoint injectionPoint)
+            throws BeanInstantiationException {
+        final var propertyName = injectionPoint.propertyName();
+        final var defaultValue = injectionPoint.defaultValue();
+        if (injectionPoint.type() instanceof Class<?> type) {
+            final Optional<?> value = configuration.getPropertyValue(propertyName, type);
+            if (value.isEmpty() && defaultValue != null) {
+                return configuration.convertValue(defaultValue, type)
+                        .map(Object.class::cast);
+            }
+            return value.map(Object.class::cast);
+        }
+
+        final var elementType = getCollectionElementType(injectionPoint.type());
+        if (elementType == null) {
+            throw new BeanInstantiationException("Unsupported type of configuration property " + propertyName + ": "
+                                                         + injectionPoint.type()
+                                                         .getTypeName());
+        }
+        final var list = ((ParameterizedType) injectionPoint.type()).getRawType() == List.class;
+        final Optional<?> value = list ? configuration.getListValue(propertyName, elementType)
+                .filter(elements -> !elements.isEmpty()) : configuration.getMapValue(propertyName, elementType)
+                .filter(entries -> !entries.isEmpty());
+        if (value.isEmpty() && defaultValue != null) {
+            if (!defaultValue.isEmpty()) {
+                throw new BeanInstantiationException("Default value of list or map configuration property "
+                                                             + propertyName + " must be empty");
+            }
+            return Optional.of(list ? List.of() : Map.of());
+        }
+        return value.map(Object.class::cast);
+    }
+
+    /**
+     * Get the element type of a list or the value type of a map (with string keys).
+     *
+     * @param type Generic type
+     * @return Element type or {@code null} if the type is no list or map of a class type
+     */
+    private static Class<?> getCollectionElementType(Type type) {
+        if (type instanceof ParameterizedType parameterizedType) {
+            final var typeArguments = parameterizedType.getActualTypeArguments();
+            if (parameterizedType.getRawType() == List.class && typeArguments[0] instanceof Class<?> elementType) {
+                return elementType;
+            }
+            if (parameterizedType.getRawType() == Map.class && typeArguments[0] == String.class
+                    && typeArguments[1] instanceof Class<?> valueType) {
+                return valueType;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Instantiate all beans of one layer concurrently. The result map is only written by the calling thread after all
+     * beans of the layer are created.
+     *
+     * @param layer    Beans of one layer (without dependencies between them)
+     * @param beans    Already instantiated beans (the new beans are added)
+     * @param executor Executor for the instantiation
+     * @throws BeanInstantiationException If instantiation fails for one of the beans (the first failed bean of the
+     *                                    layer is reported)
+     */
+    private static void instantiateLayerInParallel(List<LazyBean> layer, Map<Class<?>, Object> beans,
+                                                   Executor executor) throws BeanInstantiationException {
+        final var futures = layer.stream()
+                .map(nodeBean -> CompletableFuture.supplyAsync(nodeBean::get, executor))
+                .toList();
+        // Wait for all beans (also if one of them fails) to not create beans after this method returned
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .exceptionally(_throwable -> null)
+                .join();
+
+        for (int i = 0; i < layer.size(); i++) {
+            final Object bean;
+            try {
+                bean = futures.get(i)
+                        .join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                } else if (e.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw new BeanInstantiationException("Cannot create bean with type " + layer.get(i)
+                        .getType()
+                        .getName(), e.getCause());
+            }
+            beans.put(layer.get(i)
+                              .getType(), bean);
+        }
+    }
+
+    /**
+     * Compute the instantiation order of all nodes with a topological sort (Kahn's algorithm in O(V+E)). All nodes
+     * without dependencies form the first layer, all nodes whose dependencies are in the first layer form the second
+     * layer, and so on.
+     *
+     * @return Layers of nodes in instantiation order
+     * @throws BeanInstantiationException If there is a cyclic dependency (the message contains the cycle)
+     */
+    private List<List<DependencyGraphNode>> computeInstantiationLayers() throws BeanInstantiationException {
+        // Number of not yet ordered dependencies per node and reverse edges (dependency -> nodes depending on it)
+        final Map<DependencyGraphNode, Integer> inDegrees = new HashMap<>();
+        final Map<DependencyGraphNode, List<DependencyGraphNode>> dependents = new HashMap<>();
+        List<DependencyGraphNode> layer = new ArrayList<>();
+        for (final var node : this.nodes.values()) {
+            final var dependencies = this.getCurrentDependencies(node);
+            inDegrees.put(node, dependencies.size());
+            dependencies.forEach(dependency -> dependents.computeIfAbsent(dependency, _k -> new ArrayList<>())
+                    .add(node));
+            if (dependencies.isEmpty()) {
+                layer.add(node);
+            }
+        }
+
+        final List<List<DependencyGraphNode>> layers = new ArrayList<>();
+        int orderedNodes = 0;
+        while (!layer.isEmpty()) {
+            layers.add(layer);
+            orderedNodes += layer.size();
+
+            final List<DependencyGraphNode> nextLayer = new ArrayList<>();
+            for (final var node : layer) {
+                for (final var dependent : dependents.getOrDefault(node, List.of())) {
+                    if (inDegrees.merge(dependent, -1, Integer::sum) == 0) {
+                        // All dependencies are ordered now
+                        nextLayer.add(dependent);
+                    }
+                }
+            }
+            layer = nextLayer;
+        }
+
+        if (orderedNodes < this.nodes.size()) {
+            // All remaining nodes are part of or depend on a cycle
+            throw new BeanInstantiationException("Cyclic dependency detected: " + this.findCycle(inDegrees));
+        }
+        return layers;
+    }
+
+    /**
+     * Get the dependencies of a node (without provider dependencies). Dependencies are resolved by their type name, so
+     * they always point to the node currently registered for the type.
+     *
+     * @param node Node
+     * @return Current dependency nodes
+     */
+    private List<DependencyGraphNode> getCurrentDependencies(DependencyGraphNode node) {
+        return node.getDependencies()
+                .stream()
+                .map(dependency -> this.nodes.get(dependency.getType()
+                                                          .getName()))
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * Find one cycle in the graph after the topological sort failed.
+     *
+     * @param inDegrees Remaining in-degrees after the topological sort (all unordered nodes have a positive in-degree)
+     * @return Cycle path (e.g., "A -> B -> A" where "A -> B" means that A depends on B)
+     */
+    private String findCycle(Map<DependencyGraphNode, Integer> inDegrees) {
+        // Every unordered node has at least one unordered dependency, so following them must end in a cycle
+        var node = this.nodes.values()
+                .stream()
+                .filter(candidate -> inDegrees.get(candidate) > 0)
+                .findFirst()
+                .orElseThrow();
+        final List<DependencyGraphNode> path = new ArrayList<>();
+        while (!path.contains(node)) {
+            path.add(node);
+            node = this.getCurrentDependencies(node)
+                    .stream()
+                    .filter(dependency -> inDegrees.get(dependency) > 0)
+                    .findFirst()
+                    .orElseThrow();
+        }
+
+        final var cycle = new ArrayList<>(path.subList(path.indexOf(node), path.size()));
+        cycle.add(node);
+        return String.join(" -> ", cycle.stream()
+                .map(cycleNode -> cycleNode.getType()
+                        .getName())
+                .toList());
+    }
+
+    /**
+     * Get all dependencies of a bean which are injected via a {@link Provider}.
+     *
+     * @param beanCreationInformation Bean creation information
+     * @return Bean types of the provider dependencies
+     */
+    private static List<Class<?>> getProviderDependencies(BeanCreationInformation beanCreationInformation) {
+        final var dependencies = beanCreationInformation.getDependencies();
+        return IntStream.range(0, dependencies.length)
+                .filter(beanCreationInformation::isProviderDependency)
+                .<Class<?>>mapToObj(i -> dependencies[i])
+                .toList();
     }
 
     /**
@@ -165,12 +551,14 @@ public final class DependencyGraph {
      * @param priority                         Priority of the bean (the lowest value means the highest priority)
      * @param type                             Bean type
      * @param beanCreationInformation          Bean creation information
+     * @param lazy                             {@code true} if the bean should only be created on demand,
+     *                                         {@code false} otherwise
      * @param removeFromUnresolvedDependencies {@code true} if the bean should be removed from the unresolved
      *                                         dependencies list, {@code false} otherwise
      * @return {@code true} if the bean was inserted, {@code false} if the bean already exists
      */
     private boolean insertOneBeanType(int priority, Class<?> type, BeanCreationInformation beanCreationInformation,
-                                      boolean removeFromUnresolvedDependencies) {
+                                      boolean lazy, boolean removeFromUnresolvedDependencies) {
         final var beanClassName = type.getName();
         final var existingNode = this.nodes.get(beanClassName);
         if (existingNode != null) {
@@ -200,7 +588,7 @@ public final class DependencyGraph {
         }
 
         // Create a new node for the bean
-        final var node = new DependencyGraphNode(priority, type, beanCreationInformation);
+        final var node = new DependencyGraphNode(priority, type, beanCreationInformation, lazy);
         this.nodes.put(beanClassName, node);
 
         // Check if other beans have this bean as unsatisfied dependency
@@ -210,8 +598,11 @@ public final class DependencyGraph {
             this.unresolvedDependencies.remove(beanClassName);
         }
 
-        final var dependencyNames = Arrays.stream(beanCreationInformation.getDependencies())
-                .map(Class::getName)
+        // Provider dependencies are no dependencies for the instantiation order (they are created on demand)
+        final var dependencies = beanCreationInformation.getDependencies();
+        final var dependencyNames = IntStream.range(0, dependencies.length)
+                .filter(i -> !beanCreationInformation.isProviderDependency(i))
+                .mapToObj(i -> dependencies[i].getName())
                 .toList();
         // Add all dependencies to the new node
         dependencyNames.stream()
@@ -232,6 +623,9 @@ public final class DependencyGraph {
     /**
      * Try to instantiate all unresolved beans using their default constructor. If it does not exist, we have no chance
      * to instantiate them, and there will be left-overs.
+     * <p>
+     * These beans are only added because other beans depend on them, so they are lazy. They are created at once if a
+     * non-lazy bean requires them.
      */
     private void instantiateBeansUsingDefaultConstructor() {
         final var iterator = this.unresolvedDependencies.entrySet()
@@ -252,7 +646,7 @@ public final class DependencyGraph {
                                                                             new ConstructorBeanCreationInformation(
                                                                                     entry1.getValue()
                                                                                             .getDeclaredConstructor(),
-                                                                                    false), false);
+                                                                                    false), true, false);
                             if (inserted) {
                                 iterator.remove();
                             }
@@ -24,6 +24,11 @@ final class DependencyGraphNode {
     private final Class<?> type;
     @Getter
     private final BeanCreationInformation beanCreationInformation;
+    /**
+     * {@code true} if the bean should only be created on demand, {@code false} otherwise.
+     */
+    @Getter
+    private final boolean lazy;
     private final List<DependencyGraphNode> dependencies = new LinkedList<>();
 
     /**
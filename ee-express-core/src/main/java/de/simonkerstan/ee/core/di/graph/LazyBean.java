@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2025 Simon Kerstan
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.simonkerstan.ee.core.di.graph;
+
+import de.simonkerstan.ee.core.exceptions.BeanInstantiationException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.function.Supplier;
+
+/**
+ * Bean of one node in the graph which is created on the first access. The creation is thread-safe and happens only
+ * once (if it succeeds). Dependencies are resolved on creation, so lazy dependencies are created together with the
+ * bean.
+ * <p>
+ * There cannot be a deadlock between the beans of the graph because the graph has no cycles, so the locks are always
+ * acquired in dependency order. Only a provider called inside a constructor can lead to a cycle, which is detected if
+ * it happens on the same thread.
+ */
+@RequiredArgsConstructor
+final class LazyBean implements Supplier<Object> {
+
+    @Getter
+    private final Class<?> type;
+    private final BeanCreationInformation beanCreationInformation;
+    /**
+     * Resolver for the constructor parameters of the bean.
+     */
+    private final Supplier<Object[]> parameterResolver;
+    private volatile boolean created;
+    private boolean creating;
+    private Object bean;
+
+    /**
+     * Get the bean. It is created on the first call.
+     *
+     * @return Bean instance
+     * @throws BeanInstantiationException If the bean or one of its dependencies cannot be instantiated (the creation is
+     *                                    tried again on the next call)
+     */
+    @Override
+    public Object get() throws BeanInstantiationException {
+        if (!this.created) {
+            synchronized (this) {
+                if (!this.created) {
+                    if (this.creating) {
+                        // Reentered by the same thread (provider called inside a constructor)
+                        throw new BeanInstantiationException("Cyclic dependency detected while creating bean with type "
+                                                                     + this.type.getName());
+                    }
+                    this.creating = true;
+                    try {
+                        this.bean = this.beanCreationInformation.createBean(this.parameterResolver.get());
+                        this.created = true;
+                    } finally {
+                        this.creating = false;
+                    }
+                }
+            }
+        }
+        return this.bean;
+    }
+
+}
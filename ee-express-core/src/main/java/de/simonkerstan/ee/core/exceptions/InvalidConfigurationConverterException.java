@@ -0,0 +1,15 @@
+/*
+ * Copyright (c) 2025 Simon Kerstan
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.simonkerstan.ee.core.exceptions;
+
+import lombok.experimental.StandardException;
+
+/**
+ * Exception thrown when a custom configuration converter is invalid.
+ */
+@StandardException
+public class InvalidConfigurationConverterException extends RuntimeException {
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2025 Simon Kerstan
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.simonkerstan.ee.core.modules;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+/**
+ * Graph of all framework modules and their dependencies (directed acyclic graph). A module is only initialized after
+ * all modules it depends on are initialized (including their bean providers), so all beans of these modules are
+ * available via {@link BeanInstanceProvider} in its initialization.
+ * <p>
+ * FOR INTERNAL USE ONLY. THE API CAN CHANGE AT ANY TIME.
+ */
+@Slf4j
+public final class FrameworkModuleGraph {
+
+    /**
+     * All modules in priority order.
+     */
+    private final List<FrameworkModule> modules;
+    /**
+     * Direct dependencies of every module. (module -> modules it depends on)
+     */
+    private final Map<FrameworkModule, List<FrameworkModule>> dependencies = new HashMap<>();
+    /**
+     * All modules in initialization order (every module is after its dependencies, independent modules are in
+     * priority order).
+     */
+    private final List<FrameworkModule> initializationOrder;
+
+    /**
+     * Create a new graph.
+     *
+     * @param moduleDependencies Class names of the dependencies of every module (in priority order). Dependencies on
+     *                           modules which are not loaded are ignored.
+     * @throws IllegalStateException If the dependencies contain a cycle
+     */
+    FrameworkModuleGraph(LinkedHashMap<FrameworkModule, Set<String>> moduleDependencies) {
+        this.modules = List.copyOf(moduleDependencies.keySet());
+        final Map<String, FrameworkModule> modulesByClassName = new HashMap<>();
+        this.modules.forEach(module -> modulesByClassName.put(module.getClass()
+                                                                      .getName(), module));
+        moduleDependencies.forEach((module, dependencyClassNames) -> {
+            final List<FrameworkModule> moduleDependencyList = new ArrayList<>();
+            for (final var dependencyClassName : dependencyClassNames) {
+                final var dependency = modulesByClassName.get(dependencyClassName);
+                if (dependency == null) {
+                    log.debug("Framework module {} depends on module {} which is not loaded", module.getClass()
+                            .getName(), dependencyClassName);
+                } else if (dependency != module) {
+                    moduleDependencyList.add(dependency);
+                }
+            }
+            this.dependencies.put(module, moduleDependencyList);
+        });
+        this.initializationOrder = this.computeInitializationOrder();
+    }
+
+    /**
+     * Get all modules in priority order.
+     *
+     * @return Modules
+     */
+    public List<FrameworkModule> getModules() {
+        return this.modules;
+    }
+
+    /**
+     * Get all modules in initialization order. Every module is after all modules it depends on.
+     *
+     * @return Modules
+     */
+    public List<FrameworkModule> getInitializationOrder() {
+        return this.initializationOrder;
+    }
+
+    /**
+     * Initialize all modules. If an executor is given, all modules whose dependencies are initialized are initialized
+     * concurrently.
+     *
+     * @param initializer Initializer of one module (must also register its beans, so they are available for all
+     *                    dependent modules afterward)
+     * @param executor    Executor for the initialization ({@code null} to initialize all modules sequentially in
+     *                    {@link #getInitializationOrder()})
+     */
+    public void initialize(Consumer<FrameworkModule> initializer, Executor executor) {
+        if (executor == null) {
+            this.initializationOrder.forEach(initializer);
+            return;
+        }
+
+        // Modules are started as soon as all their dependencies are initialized (a failed module fails its dependents)
+        final Map<FrameworkModule, CompletableFuture<Void>> futures = new HashMap<>();
+        for (final var module : this.initializationOrder) {
+            final var dependencyFutures = this.dependencies.get(module)
+                    .stream()
+                    .map(futures::get)
+                    .toArray(CompletableFuture[]::new);
+            futures.put(module, CompletableFuture.allOf(dependencyFutures)
+                    .thenRunAsync(() -> initializer.accept(module), executor));
+        }
+        // Wait for all modules (also if one of them fails) to not initialize modules after this method returned
+        CompletableFuture.allOf(futures.values()
+                                        .toArray(CompletableFuture[]::new))
+                .exceptionally(_throwable -> null)
+                .join();
+
+        for (final var module : this.initializationOrder) {
+            try {
+                futures.get(module)
+                        .join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                } else if (e.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw new IllegalStateException("Cannot initialize framework module " + module.getClass()
+                        .getName(), e.getCause());
+            }
+        }
+    }
+
+    /**
+     * Compute the initialization order with a topological sort (Kahn's algorithm). Of all modules whose dependencies
+     * are ordered, the module with the highest priority is ordered next.
+     *
+     * @return Modules in initialization order
+     * @throws IllegalStateException If the dependencies contain a cycle
+     */
+    private List<FrameworkModule> computeInitializationOrder() {
+        final Map<FrameworkModule, Integer> priorityIndexes = new HashMap<>();
+        final Map<FrameworkModule, Integer> inDegrees = new HashMap<>();
+        final Map<FrameworkModule, List<FrameworkModule>> dependents = new HashMap<>();
+        final PriorityQueue<FrameworkModule> readyModules = new PriorityQueue<>(
+                (a, b) -> Integer.compare(priorityIndexes.get(a), priorityIndexes.get(b)));
+        for (int i = 0; i < this.modules.size(); i++) {
+            final var module = this.modules.get(i);
+            priorityIndexes.put(module, i);
+            final var moduleDependencies = this.dependencies.get(module);
+            inDegrees.put(module, moduleDependencies.size());
+            moduleDependencies.forEach(dependency -> dependents.computeIfAbsent(dependency, _k -> new ArrayList<>())
+                    .add(module));
+            if (moduleDependencies.isEmpty()) {
+                readyModules.add(module);
+            }
+        }
+
+        final List<FrameworkModule> order = new ArrayList<>(this.modules.size());
+        while (!readyModules.isEmpty()) {
+            final var module = readyModules.poll();
+            order.add(module);
+            for (final var dependent : dependents.getOrDefault(module, List.of())) {
+                if (inDegrees.merge(dependent, -1, Integer::sum) == 0) {
+                    // All dependencies are ordered now
+                    readyModules.add(dependent);
+                }
+            }
+        }
+
+        if (order.size() < this.modules.size()) {
+            throw new IllegalStateException("Cyclic framework module dependency between " + this.modules.stream()
+                    .filter(module -> inDegrees.get(module) > 0)
+                    .map(module -> module.getClass()
+                            .getName())
+                    .toList());
+        }
+        return Collections.unmodifiableList(order);
+    }
+
+}
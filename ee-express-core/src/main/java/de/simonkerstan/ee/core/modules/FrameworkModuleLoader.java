@@ -11,8 +11,12 @@ import lombok.extern.slf4j.Slf4j;
 import java.io.BufferedReader;
 import java.io.InputStreamReader;
 import java.lang.reflect.InvocationTargetException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Loader for framework modules.
@@ -23,6 +27,11 @@ import java.util.Objects;
 public final class FrameworkModuleLoader {
 
     private static final String FRAMEWORK_MODULES_DIRECTORY = "META-INF/de-simonkerstan-ee-express/modules";
+    /**
+     * Dependencies of a module without any dependencies (an empty line is not used because trailing empty lines are
+     * easily lost).
+     */
+    private static final String NO_DEPENDENCIES = "none";
 
     private FrameworkModuleLoader() {
     }
@@ -33,12 +42,27 @@ public final class FrameworkModuleLoader {
      * @return List of framework modules
      */
     public static List<FrameworkModule> loadFrameworkModules(ClasspathItem classpathItem) {
+        return loadFrameworkModuleGraph(classpathItem).getModules();
+    }
+
+    /**
+     * Load all available framework modules with their dependencies.
+     * <p>
+     * Every module is described by a {@code .module} resource: the class name in the first line, the priority in the
+     * second line, and (optionally) the comma-separated class names of all modules it depends on in the third line.
+     * The third line {@value #NO_DEPENDENCIES} means that the module has no dependencies. Modules without the third line
+     * (or with an empty third line) depend on all modules with a higher priority.
+     *
+     * @return Graph of framework modules
+     * @throws IllegalStateException If the module dependencies contain a cycle
+     */
+    public static FrameworkModuleGraph loadFrameworkModuleGraph(ClasspathItem classpathItem) {
         if (!classpathItem.isResourceExisting(FRAMEWORK_MODULES_DIRECTORY)) {
             log.info("No framework modules found at {}.", FRAMEWORK_MODULES_DIRECTORY);
-            return List.of();
+            return new FrameworkModuleGraph(new LinkedHashMap<>());
         }
 
-        return classpathItem.getChildren(FRAMEWORK_MODULES_DIRECTORY)
+        final var moduleDefinitions = classpathItem.getChildren(FRAMEWORK_MODULES_DIRECTORY)
                 .stream()
                 .parallel()
                 .map(String::trim)
@@ -47,10 +71,23 @@ public final class FrameworkModuleLoader {
                 .map(resourceEntryName -> getModuleDefinition(resourceEntryName, classpathItem))
                 .filter(Objects::nonNull)
                 .sorted()
-                .map(FrameworkModuleDefinition::className)
-                .map(FrameworkModuleLoader::instantiateFrameworkModuleClass)
-                .filter(Objects::nonNull)
                 .toList();
+
+        final LinkedHashMap<FrameworkModule, Set<String>> moduleDependencies = new LinkedHashMap<>();
+        for (final var moduleDefinition : moduleDefinitions) {
+            final var module = instantiateFrameworkModuleClass(moduleDefinition.className());
+            if (module != null) {
+                // Modules without declared dependencies depend on all modules loaded before
+                final Set<String> dependencies = moduleDefinition.dependencies() != null
+                        ? moduleDefinition.dependencies() : moduleDependencies.keySet()
+                        .stream()
+                        .map(loadedModule -> loadedModule.getClass()
+                                .getName())
+                        .collect(Collectors.toSet());
+                moduleDependencies.put(module, dependencies);
+            }
+        }
+        return new FrameworkModuleGraph(moduleDependencies);
     }
 
     private static boolean isFrameworkModuleResourceEntry(String resourceEntryName) {
@@ -65,7 +102,8 @@ public final class FrameworkModuleLoader {
                 final var reader = new BufferedReader(new InputStreamReader(is));
                 final var className = reader.readLine();
                 final var priority = Integer.parseInt(reader.readLine());
-                return new FrameworkModuleDefinition(className, priority);
+                final var dependencies = reader.readLine();
+                return new FrameworkModuleDefinition(className, priority, parseDependencies(dependencies));
             }
 
             log.warn("Cannot read resource {}. This should be impossible...", resourceEntryName);
@@ -77,6 +115,24 @@ public final class FrameworkModuleLoader {
         return null;
     }
 
+    /**
+     * Parse the dependencies of a module definition.
+     *
+     * @param dependencies Third line of the module definition ({@code null} if missing)
+     * @return Class names of all dependencies or {@code null} if the dependencies are not declared
+     */
+    private static Set<String> parseDependencies(String dependencies) {
+        if (dependencies == null || dependencies.isBlank()) {
+            return null;
+        } else if (NO_DEPENDENCIES.equals(dependencies.trim())) {
+            return Set.of();
+        }
+        return Arrays.stream(dependencies.split(","))
+                .map(String::trim)
+                .filter(dependency -> !dependency.isEmpty())
+                .collect(Collectors.toSet());
+    }
+
     private static FrameworkModule instantiateFrameworkModuleClass(String className) {
         try {
             final var clazz = Class.forName(className);
@@ -99,9 +155,10 @@ public final class FrameworkModuleLoader {
      *
      * @param className       Class name of the module
      * @param loadingPriority Priority of the module (the lowest number means the highest loadingPriority)
+     * @param dependencies    Class names of all modules this module depends on ({@code null} if not declared)
      */
-    private record FrameworkModuleDefinition(String className,
-                                             int loadingPriority) implements Comparable<FrameworkModuleDefinition> {
+    private record FrameworkModuleDefinition(String className, int loadingPriority, Set<String> dependencies)
+            implements Comparable<FrameworkModuleDefinition> {
 
         @Override
         public int compareTo(FrameworkModuleDefinition o) {
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2025 Simon Kerstan
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.simonkerstan.ee.core;
+
+import de.simonkerstan.ee.core.di.graph.test.Bean100;
+import de.simonkerstan.ee.core.di.graph.test.Bean50;
+import de.simonkerstan.ee.core.di.graph.test.TestService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ApplicationContextUnitTest {
+
+    @Test
+    @DisplayName("Look up beans by an interface -> Should return all beans assignable to the interface once (cached)")
+    void testGetBeans() {
+        final var bean100 = new Bean100();
+        final var bean50 = new Bean50();
+        final var createdLazyBeans = new AtomicInteger();
+        final Supplier<?> lazyBean = () -> {
+            createdLazyBeans.incrementAndGet();
+            return bean50;
+        };
+        final var tested = new ApplicationContext(null, new String[0],
+                                                  Map.of(Bean100.class, bean100, Runnable.class, bean100,
+                                                         TestService.class, new TestService()),
+                                                  Map.of(Bean50.class, lazyBean), null);
+
+        assertEquals(Set.of(bean100, bean50), Set.copyOf(tested.getBeans(Runnable.class)));
+        assertEquals(2, tested.getBeans(Runnable.class)
+                .size());
+        // The instances are cached after the first lookup
+        assertSame(tested.getBeans(Runnable.class), tested.getBeans(Runnable.class));
+        assertEquals(1, createdLazyBeans.get());
+        assertTrue(tested.getBeans(Thread.class)
+                           .isEmpty());
+    }
+
+    @Test
+    @DisplayName("Look up a bean by its type -> Should return the registered bean or the only assignable bean")
+    void testGetBean() {
+        final var bean100 = new Bean100();
+        final var bean50 = new Bean50();
+        final var testService = new TestService();
+        final var tested = new ApplicationContext(null, new String[0],
+                                                  Map.of(Bean100.class, bean100, Runnable.class, bean100,
+                                                         TestService.class, testService),
+                                                  Map.of(Bean50.class, () -> bean50), null);
+
+        // Registered types
+        assertSame(bean100, tested.getBean(Runnable.class));
+        assertSame(bean50, tested.getBean(Bean50.class));
+        // No unique assignable bean
+        assertNull(tested.getBean(Object.class));
+        assertNull(tested.getBean(Thread.class));
+
+        // Only assignable bean (context without lazy beans)
+        final var single = new ApplicationContext(null, new String[0], Map.of(TestService.class, testService), null);
+        assertSame(testService, single.getBean(Object.class));
+    }
+
+}
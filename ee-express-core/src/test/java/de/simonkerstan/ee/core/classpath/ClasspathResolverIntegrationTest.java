@@ -25,4 +25,18 @@ class ClasspathResolverIntegrationTest {
         //assertTrue(classpathItem.isDirectory("java/lang"));
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Load resource from classpath opened in parallel -> Should load the resource in classpath order")
+    void testLoadResourceParallel() {
+        final var classpathItem = ClasspathResolver.getWrapperForFullClasspath(4);
+        assertNotNull(classpathItem);
+        assertTrue(classpathItem.isResourceExisting("java/lang/Object.class"));
+        assertTrue(classpathItem.isResourceExisting(
+                "de/simonkerstan/ee/core/classpath/ClasspathResolverIntegrationTest.class"));
+        assertFalse(classpathItem.isResourceExisting("non-existing-xyz-123"));
+        final var sequentialClasspathItem = ClasspathResolver.getWrapperForFullClasspath();
+        assertEquals(sequentialClasspathItem.getChildren("de/simonkerstan/ee/core"),
+                     classpathItem.getChildren("de/simonkerstan/ee/core"));
+    }
+
+}
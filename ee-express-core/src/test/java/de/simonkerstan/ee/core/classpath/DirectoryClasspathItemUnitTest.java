@@ -4,6 +4,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -49,4 +51,18 @@ class DirectoryClasspathItemUnitTest {
         assertFalse(result.contains("yy/yz.txt"));
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Test indexed directory -> Should return the same results as the non-indexed directory")
+    void testIndexed() {
+        final var indexed = new DirectoryClasspathItem(Path.of("src/test/resources/test-dir-classpath-item"), true);
+        assertTrue(indexed.isResourceExisting("x.txt"));
+        assertTrue(indexed.isResourceExisting("y/yy/yz.txt"));
+        assertTrue(indexed.isResourceExisting("y/"));
+        assertFalse(indexed.isResourceExisting("z"));
+        assertFalse(indexed.isDirectory("x.txt"));
+        assertTrue(indexed.isDirectory("y"));
+        assertEquals(Set.copyOf(tested.getChildren("y")), Set.copyOf(indexed.getChildren("y")));
+        assertEquals(List.of("yz.txt"), indexed.getChildren("y/yy"));
+    }
+
+}
@@ -5,9 +5,9 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.util.List;
 
-import static org.junit.jupiter.api.Assertions.assertFalse;
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.*;
 
 class JarClasspathItemUnitTest {
 
@@ -41,9 +41,20 @@ class JarClasspathItemUnitTest {
     void testGetChildren() {
         final var result = tested.getChildren("META-INF");
         assertTrue(result.contains("MANIFEST.MF"));
+        assertTrue(result.contains("de-simonkerstan-ee-express"));
+        assertFalse(result.contains(""));
         assertFalse(result.contains("de-simonkerstan-ee-express/modules"));
         assertFalse(result.contains("META-INF/de-simonkerstan-ee-express/modules"));
         assertFalse(result.contains("non-existing"));
     }
 
+    @Test
+    @DisplayName("Get children of a package with a sibling sharing the prefix -> Should only return direct children")
+    void testGetChildrenOfPackage() {
+        assertEquals(List.of("validation"), tested.getChildren("de/simonkerstan/ee"));
+        assertEquals(List.of("ValidationModule.class"), tested.getChildren("de/simonkerstan/ee/validation"));
+        assertThrows(IllegalArgumentException.class, () -> tested.getChildren("de/simonkerstan/e"));
+        assertThrows(IllegalArgumentException.class, () -> tested.getChildren("META-INF/MANIFEST.MF"));
+    }
+
 }
\ No newline at end of file
@@ -11,10 +11,11 @@ import org.junit.jupiter.api.Test;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 class MultipleItemsWrapperClasspathItemUnitTest {
 
@@ -95,6 +96,30 @@ class MultipleItemsWrapperClasspathItemUnitTest {
         assertArrayEquals(expected.toArray(), result.toArray());
     }
 
+    @Test
+    @DisplayName("Look up paths in indexed items -> Should only probe the items containing the parent directory")
+    void testDirectoryIndex() {
+        final var indexedItem1 = mock(ClasspathItem.class);
+        final var indexedItem2 = mock(ClasspathItem.class);
+        when(indexedItem1.getIndexedDirectories()).thenReturn(Optional.of(Set.of("", "a")));
+        when(indexedItem2.getIndexedDirectories()).thenReturn(Optional.of(Set.of("", "b")));
+        when(indexedItem2.isResourceExisting("b/test")).thenReturn(true);
+        when(indexedItem2.isResourceExisting("b")).thenReturn(true);
+        when(indexedItem2.isDirectory("b")).thenReturn(true);
+        when(indexedItem2.getChildren("b")).thenReturn(List.of("test"));
+        final var wrapper = new MultipleItemsWrapperClasspathItem(List.of(testItem1, indexedItem1, indexedItem2));
+
+        assertTrue(wrapper.isResourceExisting("b/test"));
+        assertEquals(List.of("test"), wrapper.getChildren("b"));
+        assertFalse(wrapper.isResourceExisting("c/test"));
+
+        verify(indexedItem1, never()).isResourceExisting(anyString());
+        verify(indexedItem2, never()).isResourceExisting("c/test");
+        // Items without indexed directories are probed for every path
+        verify(testItem1).isResourceExisting("b/test");
+        verify(testItem1).isResourceExisting("c/test");
+    }
+
     @Test
     @DisplayName("Get stream from the second item -> Should return stream")
     void testGetResourceAsStream() throws IOException {
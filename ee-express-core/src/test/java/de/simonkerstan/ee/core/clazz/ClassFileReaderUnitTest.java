@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2025 Simon Kerstan
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.simonkerstan.ee.core.clazz;
+
+import de.simonkerstan.ee.core.configuration.types.TestEnum;
+import de.simonkerstan.ee.core.test2.sub.HelloWorld;
+import de.simonkerstan.ee.core.test2.sub.SubPackageClass;
+import de.simonkerstan.ee.core.test6.ServiceA;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClassFileReaderUnitTest {
+
+    @Test
+    @DisplayName("Read a class file with a class annotation -> Should return the annotation and the default constructor")
+    void testClassAnnotation() throws IOException {
+        final var tested = read(SubPackageClass.class);
+        assertEquals(Set.of(HelloWorld.class.getName()), tested.classAnnotations());
+        assertEquals(Set.of(), tested.constructorAnnotations());
+        assertEquals(Object.class.getName(), tested.superClassName());
+        assertTrue(tested.isPublic());
+        assertTrue(tested.isRealClass());
+        assertTrue(tested.publicDefaultConstructor());
+    }
+
+    @Test
+    @DisplayName("Read a class file with a constructor annotation -> Should return the constructor annotation")
+    void testConstructorAnnotation() throws IOException {
+        final var tested = read(ServiceA.class);
+        assertEquals(Set.of(), tested.classAnnotations());
+        assertEquals(Set.of("jakarta.inject.Inject"), tested.constructorAnnotations());
+        assertTrue(tested.isRealClass());
+        assertFalse(tested.publicDefaultConstructor());
+    }
+
+    @Test
+    @DisplayName("Read class files of an annotation and an enum -> Should not be real classes")
+    void testNoRealClasses() throws IOException {
+        final var annotation = read(HelloWorld.class);
+        assertFalse(annotation.isRealClass());
+        assertEquals(Set.of("java.lang.annotation.Retention", "java.lang.annotation.Target"),
+                     annotation.classAnnotations());
+        assertFalse(read(TestEnum.class).isRealClass());
+    }
+
+    @Test
+    @DisplayName("Read an invalid class file -> Should throw an exception")
+    void testInvalidClassFile() {
+        assertThrows(IOException.class, () -> ClassFileReader.read(
+                ClassFileReaderUnitTest.class.getResourceAsStream("/test.properties")));
+    }
+
+    private static ClassFileReader.ClassFileInfo read(Class<?> clazz) throws IOException {
+        try (final var inputStream = clazz.getResourceAsStream(clazz.getSimpleName() + ".class")) {
+            return ClassFileReader.read(inputStream);
+        }
+    }
+
+}
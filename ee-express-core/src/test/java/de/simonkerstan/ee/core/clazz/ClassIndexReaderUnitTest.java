@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2025 Simon Kerstan
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.simonkerstan.ee.core.clazz;
+
+import de.simonkerstan.ee.core.classpath.DirectoryClasspathItem;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClassIndexReaderUnitTest {
+
+    @Test
+    @DisplayName("Read the index of a classpath item -> Should return all indexed classes")
+    void testRead() {
+        final var item = new DirectoryClasspathItem(Path.of("src/test/resources/test-index-classpath-item"));
+        final var expected = List.of(new ScannedClass("com.example.Other", Set.of(), Set.of()),
+                                     new ScannedClass("de.simonkerstan.ee.core.test2.Test", Set.of(), Set.of()),
+                                     new ScannedClass("de.simonkerstan.ee.core.test2.sub.HelloWorld",
+                                                      Set.of("java.lang.annotation.Retention",
+                                                             "java.lang.annotation.Target"), Set.of()),
+                                     new ScannedClass("de.simonkerstan.ee.core.test2.sub.SubPackageClass",
+                                                      Set.of("de.simonkerstan.ee.core.test2.sub.HelloWorld"),
+                                                      Set.of()));
+        assertEquals(expected, ClassIndexReader.read(item)
+                .orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Read the index of a classpath item with a class filter -> Should return the matching classes only")
+    void testReadWithFilter() {
+        final var item = new DirectoryClasspathItem(Path.of("src/test/resources/test-index-classpath-item"));
+        final var expected = List.of(new ScannedClass("de.simonkerstan.ee.core.test2.sub.HelloWorld",
+                                                      Set.of("java.lang.annotation.Retention",
+                                                             "java.lang.annotation.Target"), Set.of()));
+        assertEquals(expected, ClassIndexReader.read(item, classFileInfo -> !classFileInfo.isRealClass())
+                .orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Read the index of a classpath item without index -> Should return nothing")
+    void testNoIndex() {
+        final var item = new DirectoryClasspathItem(Path.of("src/test/resources/test-dir-classpath-item"));
+        assertTrue(ClassIndexReader.read(item)
+                           .isEmpty());
+    }
+
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2025 Simon Kerstan
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.simonkerstan.ee.core.clazz;
+
+import de.simonkerstan.ee.core.classpath.DirectoryClasspathItem;
+import de.simonkerstan.ee.core.classpath.JarClasspathItem;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClassScanCacheUnitTest {
+
+    private static final String[] SCAN_PACKAGES = new String[]{"de.simonkerstan.ee"};
+    private static final List<ClassFileReader.ClassFileInfo> CLASS_FILES = List.of(
+            new ClassFileReader.ClassFileInfo("de.simonkerstan.ee.validation.ValidationModule",
+                                              ClassFileReader.ACC_PUBLIC, "java.lang.Object",
+                                              Set.of("jakarta.inject.Singleton"), Set.of("jakarta.inject.Inject"),
+                                              Set.of(), false),
+            new ClassFileReader.ClassFileInfo("de.simonkerstan.ee.validation.Other", ClassFileReader.ACC_INTERFACE,
+                                              null, Set.of(), Set.of(), Set.of("jakarta.inject.Inject"), false));
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    @DisplayName("Write and read the cache for an unchanged jar file -> Should return the cached classes")
+    void testUnchangedJarFile() throws Exception {
+        final var jarFile = this.copyTestJarFile();
+        try (final var item = new JarClasspathItem(jarFile.toString())) {
+            final var writtenCache = new ClassScanCache(this.tempDir, SCAN_PACKAGES);
+            writtenCache.load();
+            assertTrue(writtenCache.getClassNames(item, _classFile -> true)
+                               .isEmpty());
+            writtenCache.putClassFiles(item, CLASS_FILES);
+            writtenCache.save();
+
+            final var readCache = new ClassScanCache(this.tempDir, SCAN_PACKAGES);
+            readCache.load();
+            assertEquals(List.of("de.simonkerstan.ee.validation.ValidationModule",
+                                 "de.simonkerstan.ee.validation.Other"),
+                         readCache.getClassNames(item, _classFile -> true)
+                                 .orElseThrow());
+            // The cached class files are filtered like scanned class files
+            assertEquals(List.of("de.simonkerstan.ee.validation.Other"),
+                         readCache.getClassNames(item, classFile -> !classFile.isPublic()
+                                         && classFile.superClassName() == null && classFile.methodAnnotations()
+                                         .contains("jakarta.inject.Inject"))
+                                 .orElseThrow());
+        }
+    }
+
+    @Test
+    @DisplayName("Read the cache for a changed jar file -> Should return nothing")
+    void testChangedJarFile() throws Exception {
+        final var jarFile = this.copyTestJarFile();
+        try (final var item = new JarClasspathItem(jarFile.toString())) {
+            final var writtenCache = new ClassScanCache(this.tempDir, SCAN_PACKAGES);
+            writtenCache.putClassFiles(item, CLASS_FILES);
+            writtenCache.save();
+
+            Files.setLastModifiedTime(jarFile, FileTime.fromMillis(Files.getLastModifiedTime(jarFile)
+                                                                           .toMillis() + 10_000));
+            final var readCache = new ClassScanCache(this.tempDir, SCAN_PACKAGES);
+            readCache.load();
+            assertTrue(readCache.getClassNames(item, _classFile -> true)
+                               .isEmpty());
+        }
+    }
+
+    @Test
+    @DisplayName("Read the cache for other scan packages -> Should return nothing")
+    void testOtherScanPackages() throws Exception {
+        final var jarFile = this.copyTestJarFile();
+        try (final var item = new JarClasspathItem(jarFile.toString())) {
+            final var writtenCache = new ClassScanCache(this.tempDir, SCAN_PACKAGES);
+            writtenCache.putClassFiles(item, CLASS_FILES);
+            writtenCache.save();
+
+            final var readCache = new ClassScanCache(this.tempDir, new String[]{"com.example"});
+            readCache.load();
+            assertTrue(readCache.getClassNames(item, _classFile -> true)
+                               .isEmpty());
+        }
+    }
+
+    @Test
+    @DisplayName("Cache a directory -> Should not be cacheable")
+    void testDirectory() {
+        final var cache = new ClassScanCache(this.tempDir, SCAN_PACKAGES);
+        final var item = new DirectoryClasspathItem(Path.of("src/test/resources/test-dir-classpath-item"));
+        assertFalse(cache.isCacheable(item));
+        cache.putClassFiles(item, CLASS_FILES);
+        assertTrue(cache.getClassNames(item, _classFile -> true)
+                           .isEmpty());
+    }
+
+    private Path copyTestJarFile() throws IOException {
+        final var jarFile = this.tempDir.resolve("test.jar");
+        Files.copy(Path.of("src/test/resources/test-jar-classpath-item-file.jar"), jarFile,
+                   StandardCopyOption.REPLACE_EXISTING);
+        return jarFile;
+    }
+
+}
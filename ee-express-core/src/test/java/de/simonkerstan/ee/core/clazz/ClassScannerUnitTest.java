@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2025 Simon Kerstan
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.simonkerstan.ee.core.clazz;
+
+import de.simonkerstan.ee.core.classpath.ClasspathResolver;
+import de.simonkerstan.ee.core.classpath.DirectoryClasspathItem;
+import de.simonkerstan.ee.core.classpath.JarClasspathItem;
+import de.simonkerstan.ee.core.test2.sub.HelloWorld;
+import de.simonkerstan.ee.core.test2.sub.SubPackageClass;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.lang.annotation.Annotation;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ClassScannerUnitTest {
+
+    @Test
+    @DisplayName("Scan a classpath item with class index -> Should call the hooks for the indexed classes only")
+    void testScanWithIndex() {
+        final var classHook = mock(ClassHook.class);
+        @SuppressWarnings("unchecked")
+        final Class<? extends Annotation>[] annotations = new Class[]{HelloWorld.class};
+        when(classHook.getClassAnnotations()).thenReturn(annotations);
+        final var classInterfacesHook = mock(ClassInterfacesHook.class);
+
+        final var tested = new ClassScanner(new String[]{"de.simonkerstan.ee.core.test2"},
+                                            new DirectoryClasspathItem(
+                                                    Path.of("src/test/resources/test-index-classpath-item")));
+        tested.registerClassHook(classHook);
+        tested.registerClassInterfacesHook(classInterfacesHook);
+        tested.scan();
+
+        verify(classHook).processClass(eq(SubPackageClass.class), eq(HelloWorld.class), any(HelloWorld.class));
+        verify(classHook).getClassAnnotations();
+        verifyNoMoreInteractions(classHook);
+        verify(classInterfacesHook).processClassInterfaces(de.simonkerstan.ee.core.test2.Test.class,
+                                                           new Class<?>[]{Runnable.class});
+        verify(classInterfacesHook).processClassInterfaces(SubPackageClass.class, new Class<?>[0]);
+        // Indexed classes are filtered like scanned class files
+        verify(classInterfacesHook, atLeastOnce()).isDefaultConstructorRequired();
+        verifyNoMoreInteractions(classInterfacesHook);
+    }
+
+    @Test
+    @DisplayName("Scan a classpath item with a disabled class index -> Should ignore the index")
+    void testScanWithDisabledIndex() {
+        final var classHook = mock(ClassHook.class);
+        @SuppressWarnings("unchecked")
+        final Class<? extends Annotation>[] annotations = new Class[]{HelloWorld.class};
+        when(classHook.getClassAnnotations()).thenReturn(annotations);
+
+        // The classpath item only contains the index, but no class files
+        final var tested = new ClassScanner(new String[]{"de.simonkerstan.ee.core.test2"},
+                                            new DirectoryClasspathItem(
+                                                    Path.of("src/test/resources/test-index-classpath-item")));
+        tested.registerClassHook(classHook);
+        tested.disableClassIndex();
+        tested.scan();
+
+        verify(classHook).getClassAnnotations();
+        verifyNoMoreInteractions(classHook);
+    }
+
+    @Test
+    @DisplayName("Scan a classpath item with class files -> Should call the hooks for all required classes")
+    void testScanWithClassFiles() {
+        final var classHook = mock(ClassHook.class);
+        @SuppressWarnings("unchecked")
+        final Class<? extends Annotation>[] annotations = new Class[]{HelloWorld.class};
+        when(classHook.getClassAnnotations()).thenReturn(annotations);
+        final var classInterfacesHook = mock(ClassInterfacesHook.class);
+        when(classInterfacesHook.isDefaultConstructorRequired()).thenReturn(true);
+
+        final var tested = new ClassScanner(new String[]{"de.simonkerstan.ee.core.test2"},
+                                            ClasspathResolver.getWrapperForFullClasspath());
+        tested.registerClassHook(classHook);
+        tested.registerClassInterfacesHook(classInterfacesHook);
+        tested.scan();
+
+        verify(classHook).processClass(eq(SubPackageClass.class), eq(HelloWorld.class), any(HelloWorld.class));
+        // The annotation type itself is not a real class
+        verify(classInterfacesHook).processClassInterfaces(de.simonkerstan.ee.core.test2.Test.class,
+                                                           new Class<?>[]{Runnable.class});
+        verify(classInterfacesHook).processClassInterfaces(SubPackageClass.class, new Class<?>[0]);
+        verify(classInterfacesHook, never()).processClassInterfaces(eq(HelloWorld.class), any());
+    }
+
+    @Test
+    @DisplayName("Scan an unchanged jar file with the scan cache -> Should call the hooks for the same classes and " +
+            "cache all class files")
+    void testScanWithCache(@TempDir Path tempDir) throws Exception {
+        final var jarFile = createTestJarFile(tempDir.resolve("test.jar"));
+        final var cacheDirectory = tempDir.resolve("cache");
+        final var firstClassHook = scanWithCache(jarFile, cacheDirectory);
+        final var secondClassHook = scanWithCache(jarFile, cacheDirectory);
+
+        for (final var classHook : List.of(firstClassHook, secondClassHook)) {
+            verify(classHook).processClass(eq(SubPackageClass.class), eq(HelloWorld.class), any(HelloWorld.class));
+            verify(classHook).getClassAnnotations();
+            verifyNoMoreInteractions(classHook);
+        }
+        // Class files not needed by the hooks are cached, too (the hooks could change until the next scan)
+        assertTrue(Files.readString(cacheDirectory.resolve("class-scan.cache"))
+                           .contains(de.simonkerstan.ee.core.test2.Test.class.getName()));
+    }
+
+    @Test
+    @DisplayName("Scan in parallel -> Should call the hooks in the scanning thread in the same order as a sequential scan")
+    void testParallelScan() {
+        final var sequentialClasses = scanClassNames(1);
+        final var parallelClasses = scanClassNames(4);
+        assertFalse(sequentialClasses.isEmpty());
+        assertEquals(sequentialClasses, parallelClasses);
+    }
+
+    private static List<String> scanClassNames(int parallelism) {
+        final var scanningThread = Thread.currentThread();
+        final List<String> classNames = new ArrayList<>();
+        final var tested = new ClassScanner(new String[]{"de.simonkerstan.ee.core"},
+                                            ClasspathResolver.getWrapperForFullClasspath());
+        tested.enableParallelScan(parallelism);
+        tested.registerClassInterfacesHook((clazz, interfaces) -> {
+            assertSame(scanningThread, Thread.currentThread());
+            classNames.add(clazz.getName());
+        });
+        tested.scan();
+        return classNames;
+    }
+
+    private static ClassHook scanWithCache(Path jarFile, Path cacheDirectory) throws Exception {
+        final var classHook = mock(ClassHook.class);
+        @SuppressWarnings("unchecked")
+        final Class<? extends Annotation>[] annotations = new Class[]{HelloWorld.class};
+        when(classHook.getClassAnnotations()).thenReturn(annotations);
+
+        try (final var item = new JarClasspathItem(jarFile.toString())) {
+            final var tested = new ClassScanner(new String[]{"de.simonkerstan.ee.core.test2"}, item);
+            tested.registerClassHook(classHook);
+            tested.enableScanCache(cacheDirectory);
+            tested.scan();
+        }
+        return classHook;
+    }
+
+    private static Path createTestJarFile(Path jarFile) throws Exception {
+        final var classesDirectory = Path.of(HelloWorld.class.getProtectionDomain()
+                                                     .getCodeSource()
+                                                     .getLocation()
+                                                     .toURI());
+        // Jar file with all compiled test classes of the package
+        try (final var out = new JarOutputStream(Files.newOutputStream(jarFile));
+             final var classFiles = Files.walk(classesDirectory.resolve("de/simonkerstan/ee/core/test2"))) {
+            for (final var classFile : classFiles.filter(Files::isRegularFile)
+                    .toList()) {
+                out.putNextEntry(new JarEntry(classesDirectory.relativize(classFile)
+                                                      .toString()
+                                                      .replace(classFile.getFileSystem()
+                                                                       .getSeparator(), "/")));
+                Files.copy(classFile, out);
+                out.closeEntry();
+            }
+        }
+        return jarFile;
+    }
+
+}
@@ -5,11 +5,17 @@
 
 package de.simonkerstan.ee.core.clazz;
 
+import de.simonkerstan.ee.core.classpath.ClasspathItem;
 import de.simonkerstan.ee.core.classpath.ClasspathResolver;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
-import static org.junit.jupiter.api.Assertions.assertSame;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
 
 class RecursivePackageClassIteratorUnitTest {
 
@@ -29,4 +35,25 @@ class RecursivePackageClassIteratorUnitTest {
         }
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Test lazy iteration over a package -> Should resolve a subpackage only when it is reached")
+    void testLazyIteration() {
+        final var classpathItem = mock(ClasspathItem.class);
+        when(classpathItem.isResourceExisting(anyString())).thenReturn(true);
+        when(classpathItem.getChildren("de/simonkerstan/ee/core/test2")).thenReturn(List.of("Test.class", "sub"));
+        when(classpathItem.getChildren("de/simonkerstan/ee/core/test2/sub")).thenReturn(
+                List.of("SubPackageClass.class"));
+
+        final var tested = new RecursivePackageClassIterator("de.simonkerstan.ee.core.test2", classpathItem);
+        verify(classpathItem).getChildren("de/simonkerstan/ee/core/test2");
+        assertSame(de.simonkerstan.ee.core.test2.Test.class, tested.next());
+        verify(classpathItem, never()).getChildren("de/simonkerstan/ee/core/test2/sub");
+
+        assertTrue(tested.hasNext());
+        verify(classpathItem).getChildren("de/simonkerstan/ee/core/test2/sub");
+        assertSame(de.simonkerstan.ee.core.test2.sub.SubPackageClass.class, tested.next());
+        assertFalse(tested.hasNext());
+        assertThrows(NoSuchElementException.class, tested::next);
+    }
+
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2025 Simon Kerstan
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.simonkerstan.ee.core.configuration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConfigurationFileWatcherUnitTest {
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    @DisplayName("Change a watched file -> Should reload the file and notify the listeners")
+    void testReloadChangedFile() throws IOException, ExecutionException, InterruptedException, TimeoutException {
+        final var file = this.tempDir.resolve("test.properties");
+        Files.writeString(file, "test.a=1\n");
+        final var provider = ConfigurationFileLoader.loadProvider(PropertiesFileConfigurationProvider.class,
+                                                                  file.toString())
+                .orElseThrow();
+        final var configuration = new DefaultConfiguration(new String[0]);
+        configuration.addConfigurationProvider(provider);
+        final var changes = new CompletableFuture<Set<String>>();
+        configuration.addChangeListener("test.", changes::complete);
+
+        try (final var _watcher = new ConfigurationFileWatcher(configuration, Map.of(file, provider))) {
+            Files.writeString(file, "test.a=2\n");
+
+            assertEquals(Set.of("test.a"), changes.get(30, TimeUnit.SECONDS));
+            assertEquals(2, configuration.getPropertyValue("test.a", Integer.class, 0));
+        }
+    }
+
+    @Test
+    @DisplayName("Change a watched file to invalid content -> Should keep the previous provider and keep watching")
+    void testReloadInvalidFile() throws IOException, ExecutionException, InterruptedException, TimeoutException {
+        final var file = this.tempDir.resolve("test.properties");
+        Files.writeString(file, "test.a=1\n");
+        final var provider = ConfigurationFileLoader.loadProvider(PropertiesFileConfigurationProvider.class,
+                                                                  file.toString())
+                .orElseThrow();
+        final var configuration = new DefaultConfiguration(new String[0]);
+        configuration.addConfigurationProvider(provider);
+        final var changes = new CompletableFuture<Set<String>>();
+        configuration.addChangeListener("test.", changes::complete);
+
+        try (final var _watcher = new ConfigurationFileWatcher(configuration, Map.of(file, provider))) {
+            // Malformed Unicode escape (properties cannot be loaded)
+            Files.writeString(file, "test.a=\\uZZZZ\n");
+            // Wait for the failed reload
+            Thread.sleep(1000);
+            assertFalse(changes.isDone());
+            assertEquals(1, configuration.getPropertyValue("test.a", Integer.class, 0));
+
+            Files.writeString(file, "test.a=2\n");
+            assertEquals(Set.of("test.a"), changes.get(30, TimeUnit.SECONDS));
+            assertEquals(2, configuration.getPropertyValue("test.a", Integer.class, 0));
+        }
+    }
+
+}
@@ -6,13 +6,22 @@
 package de.simonkerstan.ee.core.configuration;
 
 import de.simonkerstan.ee.core.configuration.types.TestEnum;
+import de.simonkerstan.ee.core.configuration.types.TestIntegerKeyRecord;
+import de.simonkerstan.ee.core.configuration.types.TestNestedRecord;
 import de.simonkerstan.ee.core.configuration.types.TestRecord;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ConfigurationPropertyResolverUnitTest {
@@ -33,6 +42,48 @@ class ConfigurationPropertyResolverUnitTest {
                 .orElseThrow());
     }
 
+    @Test
+    @DisplayName("Resolve a record property with nested records, lists and maps -> Should return a record instance")
+    void testNestedRecord() throws IOException {
+        final var properties = """
+                test.name=nested
+                test.server.helloWorld=server
+                test.server.port=80
+                test.backends.0.helloWorld=first
+                test.backends.0.port=8080
+                test.backends.1.helloWorld=second
+                test.backends.1.port=8081
+                test.limits.a=1
+                test.limits.b=2
+                """;
+        final var provider = new PropertiesFileConfigurationProvider(
+                new ByteArrayInputStream(properties.getBytes(StandardCharsets.ISO_8859_1)));
+        final var tested = new ConfigurationPropertyResolver(provider::getConfigurationValue,
+                                                             provider::getConfigurationSubValues);
+
+        assertEquals(new TestNestedRecord("nested", new TestRecord("server", 80),
+                                          List.of(new TestRecord("first", 8080), new TestRecord("second", 8081)),
+                                          Map.of("a", 1, "b", 2)),
+                     tested.resolveConfigurationValue("test", TestNestedRecord.class)
+                             .orElseThrow());
+        // Missing components
+        assertTrue(tested.resolveConfigurationValue("test.server", TestNestedRecord.class)
+                           .isEmpty());
+        // The binding plan is only computed once
+        assertSame(RecordBinding.of(TestNestedRecord.class), RecordBinding.of(TestNestedRecord.class));
+    }
+
+    @Test
+    @DisplayName("Resolve a record property with a map without string keys -> Should throw an exception")
+    void testRecordWithIntegerMapKeys() {
+        final var tested = new ConfigurationPropertyResolver(_property -> Optional.of("1"));
+
+        final var exception = assertThrows(IllegalArgumentException.class,
+                                           () -> tested.resolveConfigurationValue("test", TestIntegerKeyRecord.class));
+        assertEquals("Map component ports of record type " + TestIntegerKeyRecord.class.getName()
+                             + " must have String keys, but has java.lang.Integer keys", exception.getMessage());
+    }
+
     @Test
     @DisplayName("Resolve an enum property -> Should return an enum value")
     void testEnum() {
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2025 Simon Kerstan
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.simonkerstan.ee.core.configuration;
+
+import de.simonkerstan.ee.core.configuration.types.TestEnum;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConfigurationValueConvertersUnitTest {
+
+    @Test
+    @DisplayName("Convert values of built-in types -> Should return the converted values")
+    void testBuiltInConverters() {
+        final var tested = new ConfigurationValueConverters();
+
+        assertEquals(Duration.ofMillis(500), tested.getConverter(Duration.class)
+                .convert("500ms"));
+        assertEquals(Duration.ofSeconds(5), tested.getConverter(Duration.class)
+                .convert("PT5S"));
+        assertEquals(Duration.ofMinutes(-2), tested.getConverter(Duration.class)
+                .convert("-2m"));
+        assertEquals(Duration.ofMillis(250), tested.getConverter(Duration.class)
+                .convert("250"));
+        assertEquals(new DataSize(512 * 1024), tested.getConverter(DataSize.class)
+                .convert("512KB"));
+        assertEquals(new DataSize(100), tested.getConverter(DataSize.class)
+                .convert("100"));
+        assertEquals(URI.create("https://example.com/a"), tested.getConverter(URI.class)
+                .convert("https://example.com/a"));
+        assertEquals(Path.of("/tmp/test"), tested.getConverter(Path.class)
+                .convert("/tmp/test"));
+        assertEquals(new InetSocketAddress("127.0.0.1", 8080), tested.getConverter(InetSocketAddress.class)
+                .convert("127.0.0.1:8080"));
+        assertEquals(new InetSocketAddress("::1", 8080), tested.getConverter(InetSocketAddress.class)
+                .convert("[::1]:8080"));
+        assertEquals(StandardCharsets.UTF_8, tested.getConverter(Charset.class)
+                .convert("UTF-8"));
+        assertEquals(TestEnum.X, tested.getConverter(TestEnum.class)
+                .convert("X"));
+        assertEquals(42, tested.getConverter(int.class)
+                .convert("42"));
+        assertEquals("test", tested.getConverter(CharSequence.class)
+                .convert("test"));
+    }
+
+    @Test
+    @DisplayName("Convert invalid values -> Should throw an exception")
+    void testInvalidValues() {
+        final var tested = new ConfigurationValueConverters();
+
+        assertThrows(IllegalArgumentException.class, () -> tested.getConverter(Duration.class)
+                .convert("5 weeks"));
+        assertThrows(IllegalArgumentException.class, () -> tested.getConverter(DataSize.class)
+                .convert("5PB"));
+        assertThrows(IllegalArgumentException.class, () -> tested.getConverter(InetSocketAddress.class)
+                .convert("localhost"));
+        assertThrows(IllegalArgumentException.class, () -> tested.getConverter(TestEnum.class)
+                .convert("Z"));
+        assertThrows(IllegalArgumentException.class, () -> tested.getConverter(Thread.class)
+                .convert("test"));
+    }
+
+    @Test
+    @DisplayName("Add a custom converter -> Should replace the built-in converter (also for primitive types)")
+    void testCustomConverter() {
+        final var tested = new ConfigurationValueConverters();
+        assertEquals(42, tested.getConverter(int.class)
+                .convert("42"));
+
+        tested.addConverter(new ConfigurationValueConverter<Integer>() {
+
+            @Override
+            public Class<Integer> getType() {
+                return Integer.class;
+            }
+
+            @Override
+            public Integer convert(String value) {
+                return value.length();
+            }
+
+        });
+
+        assertEquals(5, tested.getConverter(int.class)
+                .convert("hello"));
+        assertEquals(5, tested.getConverter(Integer.class)
+                .convert("hello"));
+    }
+
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2025 Simon Kerstan
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.simonkerstan.ee.core.configuration;
+
+import de.simonkerstan.ee.core.exceptions.MissingConfigurationPropertyException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class DefaultConfigurationUnitTest {
+
+    @Test
+    @DisplayName("Get property values from a frozen configuration -> Should query the providers only once per property")
+    void testFrozenConfiguration() throws MissingConfigurationPropertyException {
+        final var provider = mock(ConfigurationProvider.class);
+        when(provider.getConfigurationValue("test.int")).thenReturn(Optional.of("42"));
+        when(provider.getConfigurationValue("test.missing")).thenReturn(Optional.empty());
+        final var tested = new DefaultConfiguration(new String[0]);
+        tested.addConfigurationProvider(provider);
+        tested.freeze();
+
+        assertTrue(tested.isFrozen());
+        assertEquals(42, tested.getPropertyValue("test.int", Integer.class, 0));
+        assertEquals(42, tested.getPropertyValue("test.int", Integer.class, 0));
+        assertEquals("42", tested.getRequiredPropertyValue("test.int", String.class));
+        assertEquals(1, tested.getPropertyValue("test.missing", Integer.class, 1));
+        assertEquals(1, tested.getPropertyValue("test.missing", Integer.class, 1));
+        // Once per type of the property
+        verify(provider, times(2)).getConfigurationValue("test.int");
+        verify(provider, times(1)).getConfigurationValue("test.missing");
+    }
+
+    @Test
+    @DisplayName("Freeze a configuration with providers listing their properties -> Should flatten the raw values " +
+            "once")
+    void testFrozenConfigurationFlattensProviders() {
+        final var provider = mock(ConfigurationProvider.class);
+        when(provider.getPropertyNames()).thenReturn(Optional.of(Set.of("test.int")));
+        when(provider.getConfigurationValue("test.int")).thenReturn(Optional.of("42"));
+        final var tested = new DefaultConfiguration(new String[]{"--test.int=43"});
+        tested.addConfigurationProvider(provider);
+        tested.freeze();
+
+        // The command line takes precedence
+        assertEquals(43, tested.getPropertyValue("test.int", Integer.class, 0));
+        assertEquals(43L, tested.getPropertyValue("test.int", Long.class, 0L));
+        assertEquals("43", tested.getPropertyValue("test.int", String.class, ""));
+        verify(provider, never()).getConfigurationValue("test.int");
+    }
+
+    @Test
+    @DisplayName("Get property values from a non-frozen configuration -> Should query the providers every time")
+    void testNonFrozenConfiguration() {
+        final var provider = mock(ConfigurationProvider.class);
+        when(provider.getConfigurationValue("test.int")).thenReturn(Optional.of("42"));
+        final var tested = new DefaultConfiguration(new String[0]);
+        tested.addConfigurationProvider(provider);
+
+        assertFalse(tested.isFrozen());
+        assertEquals(42, tested.getPropertyValue("test.int", Integer.class, 0));
+        assertEquals(42, tested.getPropertyValue("test.int", Integer.class, 0));
+        verify(provider, times(2)).getConfigurationValue("test.int");
+    }
+
+    @Test
+    @DisplayName("Add a provider to a frozen configuration -> Should throw an exception")
+    void testAddProviderToFrozenConfiguration() {
+        final var tested = new DefaultConfiguration(new String[0]);
+        tested.freeze();
+
+        assertThrows(IllegalStateException.class,
+                     () -> tested.addConfigurationProvider(mock(ConfigurationProvider.class)));
+    }
+
+    @Test
+    @DisplayName("Replace a provider -> Should publish the new values and notify the matching listeners")
+    void testReplaceProvider() throws IOException {
+        final var oldProvider = createPropertiesProvider("test.a=1\ntest.b=2\nother.c=3\n");
+        final var newProvider = createPropertiesProvider("test.a=1\ntest.b=5\nother.d=4\n");
+        final var tested = new DefaultConfiguration(new String[0]);
+        tested.addConfigurationProvider(oldProvider);
+        final List<Set<String>> testChanges = new ArrayList<>();
+        final List<Set<String>> allChanges = new ArrayList<>();
+        final List<Set<String>> unknownChanges = new ArrayList<>();
+        tested.addChangeListener("test.", testChanges::add);
+        tested.addChangeListener("", allChanges::add);
+        tested.addChangeListener("unknown.", unknownChanges::add);
+        tested.addChangeListener("", _changes -> {
+            throw new IllegalStateException("Failing listener");
+        });
+
+        tested.replaceConfigurationProvider(oldProvider, newProvider);
+
+        assertEquals(5, tested.getPropertyValue("test.b", Integer.class, 0));
+        assertEquals(Optional.empty(), tested.getPropertyValue("other.c", String.class));
+        assertEquals(List.of(Set.of("test.b")), testChanges);
+        assertEquals(List.of(Set.of("test.b", "other.c", "other.d")), allChanges);
+        assertEquals(List.of(), unknownChanges);
+    }
+
+    @Test
+    @DisplayName("Replace a provider of a frozen configuration -> Should forget all memoized values")
+    void testReplaceProviderOfFrozenConfiguration() throws IOException {
+        final var oldProvider = createPropertiesProvider("test.a=1\n");
+        final var tested = new DefaultConfiguration(new String[0]);
+        tested.addConfigurationProvider(oldProvider);
+        tested.freeze();
+        assertEquals(1, tested.getPropertyValue("test.a", Integer.class, 0));
+
+        tested.replaceConfigurationProvider(oldProvider, createPropertiesProvider("test.a=2\n"));
+
+        assertTrue(tested.isFrozen());
+        assertEquals(2, tested.getPropertyValue("test.a", Integer.class, 0));
+    }
+
+    @Test
+    @DisplayName("Replace an unknown provider -> Should throw an exception")
+    void testReplaceUnknownProvider() {
+        final var tested = new DefaultConfiguration(new String[0]);
+
+        assertThrows(IllegalArgumentException.class,
+                     () -> tested.replaceConfigurationProvider(mock(ConfigurationProvider.class),
+                                                               mock(ConfigurationProvider.class)));
+    }
+
+    @Test
+    @DisplayName("Get a map defined by multiple providers -> Should merge the entries by provider priority")
+    void testGetMergedMapValue() throws IOException {
+        final var tested = new DefaultConfiguration(new String[0]);
+        tested.addConfigurationProvider(createPropertiesProvider("test.map.a=1\ntest.map.b=2\n"));
+        tested.addConfigurationProvider(createPropertiesProvider("test.map.b=3\ntest.map.c=4\n"));
+
+        assertEquals(Map.of("a", 1, "b", 2, "c", 4), tested.getMapValue("test.map", Integer.class)
+                .orElseThrow());
+        assertEquals(List.of(1, 2, 4), tested.getListValue("test.map", Integer.class)
+                .orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Get a map from environment variables with nested names -> Should skip sub values without a value")
+    void testGetMapValueWithNestedEnvironmentVariables() {
+        final var tested = new DefaultConfiguration(new String[0]);
+        tested.addConfigurationProvider(new EnvironmentConfigurationProvider(
+                Map.of("SERVER_NAME", "test", "SERVER_SOFTWARE_VERSION", "1.0", "FOO_PORT_8080_TCP_ADDR", "127.0.0.1")));
+
+        assertEquals(Map.of("name", "test"), tested.getMapValue("server", String.class)
+                .orElseThrow());
+        assertEquals(Map.of("version", "1.0"), tested.getMapValue("server.software", String.class)
+                .orElseThrow());
+        assertEquals(Map.of(), tested.getMapValue("foo.port", String.class)
+                .orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Get a map with a value which cannot be converted -> Should throw exception")
+    void testGetMapValueWithInvalidValue() throws IOException {
+        final var tested = new DefaultConfiguration(new String[0]);
+        tested.addConfigurationProvider(createPropertiesProvider("timeouts.a=abc\ntimeouts.b=5\n"));
+
+        assertThrows(NoSuchElementException.class, () -> tested.getMapValue("timeouts", Integer.class));
+    }
+
+    private static ConfigurationProvider createPropertiesProvider(String properties) throws IOException {
+        return new PropertiesFileConfigurationProvider(
+                new ByteArrayInputStream(properties.getBytes(StandardCharsets.ISO_8859_1)));
+    }
+
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2025 Simon Kerstan
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.simonkerstan.ee.core.configuration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EnvironmentConfigurationProviderUnitTest {
+
+    private final EnvironmentConfigurationProvider tested = new EnvironmentConfigurationProvider(
+            Map.of("MY_VALUE", "value", "MY_LIST_1", "b", "MY_LIST_0", "a", "MY_LIST_10", "k", "MY_MAP_X_HOST", "x",
+                   "MY_MAP_Y_HOST", "y", "lower_value", "lower", "DOTTED.VALUE", "dotted"));
+
+    @Test
+    @DisplayName("Get property from environment variables -> Should return the property")
+    void testGetProperty() {
+        assertEquals(Optional.of("value"), tested.getConfigurationValue("my.value"));
+        assertEquals(Optional.of("value"), tested.getConfigurationValue("MY_VALUE"));
+        assertEquals(Optional.of("a"), tested.getConfigurationValue("my.list.0"));
+        assertTrue(tested.getConfigurationValue("my")
+                           .isEmpty());
+        assertTrue(tested.getConfigurationValue("my.value.x")
+                           .isEmpty());
+        // Environment variables which cannot be mapped from property names
+        assertTrue(tested.getConfigurationValue("lower.value")
+                           .isEmpty());
+        assertTrue(tested.getConfigurationValue("dotted.value")
+                           .isEmpty());
+    }
+
+    @Test
+    @DisplayName("Get sub values from environment variables -> Should return the lowercase sub values in order")
+    void testGetSubValues() {
+        assertEquals(Optional.of(List.of("0", "1", "10")), tested.getConfigurationSubValues("my.list"));
+        assertEquals(Optional.of(List.of("x", "y")), tested.getConfigurationSubValues("my.map"));
+        assertEquals(Optional.of(List.of("list", "map", "value")), tested.getConfigurationSubValues("my"));
+        assertTrue(tested.getConfigurationSubValues("my.value")
+                           .isEmpty());
+        assertTrue(tested.getConfigurationSubValues("missing")
+                           .isEmpty());
+    }
+
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2025 Simon Kerstan
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.simonkerstan.ee.core.configuration;
+
+import de.simonkerstan.ee.core.configuration.types.TestNestedRecord;
+import de.simonkerstan.ee.core.configuration.types.TestRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonFileConfigurationProviderUnitTest {
+
+    private static final String JSON = """
+            {
+                "name": "nested",
+                "server": {"helloWorld": "Hello World!", "port": 8080},
+                "backends": [
+                    {"helloWorld": "first", "port": 8081},
+                    {"helloWorld": "second", "port": 8082}
+                ],
+                "limits": {"a": 1, "b": 2},
+                "flags": [true, false, null, 1.5],
+                "missing": null
+            }
+            """;
+
+    @Test
+    @DisplayName("Get configuration from JSON file -> Should return the configuration")
+    void testGetConfiguration() throws IOException {
+        final var tested = createProvider(JSON);
+
+        assertEquals(Optional.of("nested"), tested.getConfigurationValue("name"));
+        assertEquals(Optional.of("8080"), tested.getConfigurationValue("server.port"));
+        assertEquals(Optional.of("second"), tested.getConfigurationValue("backends.1.helloWorld"));
+        assertEquals(Optional.of("true"), tested.getConfigurationValue("flags.0"));
+        assertEquals(Optional.of("1.5"), tested.getConfigurationValue("flags.3"));
+        assertTrue(tested.getConfigurationValue("flags.2")
+                           .isEmpty());
+        assertTrue(tested.getConfigurationValue("missing")
+                           .isEmpty());
+        assertTrue(tested.getConfigurationValue("server")
+                           .isEmpty());
+    }
+
+    @Test
+    @DisplayName("Get sub values from JSON file -> Should return the sub values in order")
+    void testGetSubValues() throws IOException {
+        final var tested = createProvider(JSON);
+
+        assertEquals(Optional.of(List.of("0", "1")), tested.getConfigurationSubValues("backends"));
+        assertEquals(Optional.of(List.of("0", "1", "3")), tested.getConfigurationSubValues("flags"));
+        assertEquals(Optional.of(List.of("a", "b")), tested.getConfigurationSubValues("limits"));
+    }
+
+    @Test
+    @DisplayName("Resolve a record from JSON file -> Should return the record instance")
+    void testResolveRecord() throws IOException {
+        final var provider = createProvider("{\"test\": " + JSON + "}");
+        final var tested = new ConfigurationPropertyResolver(provider::getConfigurationValue,
+                                                             provider::getConfigurationSubValues);
+
+        assertEquals(new TestNestedRecord("nested", new TestRecord("Hello World!", 8080),
+                                          List.of(new TestRecord("first", 8081), new TestRecord("second", 8082)),
+                                          Map.of("a", 1, "b", 2)),
+                     tested.resolveConfigurationValue("test", TestNestedRecord.class)
+                             .orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Read invalid JSON file -> Should throw an exception")
+    void testInvalidJson() {
+        assertThrows(IOException.class, () -> createProvider("{\"a\": "));
+        assertThrows(IOException.class, () -> createProvider("42"));
+    }
+
+    private static JsonFileConfigurationProvider createProvider(String json) throws IOException {
+        return new JsonFileConfigurationProvider(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+}
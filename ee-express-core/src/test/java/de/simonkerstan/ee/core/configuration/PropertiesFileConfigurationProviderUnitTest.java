@@ -8,7 +8,9 @@ package de.simonkerstan.ee.core.configuration;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -38,4 +40,34 @@ class PropertiesFileConfigurationProviderUnitTest {
         }
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Get sub values of nested properties -> Should return each sub value once in order")
+    void testGetSubValues() throws IOException {
+        final var properties = """
+                list.10=k
+                list.2=c
+                list.0=a
+                list.1=b
+                map.y.value=1
+                map.x.value=2
+                map.x.other=3
+                map.x=4
+                """;
+        final var tested = new PropertiesFileConfigurationProvider(
+                new ByteArrayInputStream(properties.getBytes(StandardCharsets.ISO_8859_1)));
+
+        assertEquals(List.of("0", "1", "2", "10"), tested.getConfigurationSubValues("list")
+                .orElseThrow());
+        assertEquals(List.of("x", "y"), tested.getConfigurationSubValues("map")
+                .orElseThrow());
+        assertEquals(List.of("other", "value"), tested.getConfigurationSubValues("map.x")
+                .orElseThrow());
+        assertEquals(List.of(), tested.getConfigurationSubValues("map.x.value")
+                .orElseThrow());
+        assertEquals(List.of(), tested.getConfigurationSubValues("missing.property")
+                .orElseThrow());
+        assertEquals(List.of(), tested.getConfigurationSubValues("lis")
+                .orElseThrow());
+    }
+
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2025 Simon Kerstan
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.simonkerstan.ee.core.configuration;
+
+import de.simonkerstan.ee.core.configuration.types.TestRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class XmlFileConfigurationProviderUnitTest {
+
+    private static final String XML = """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <configuration>
+                <!-- Comments are ignored -->
+                <server port="8080">
+                    <helloWorld>  Hello World!  </helloWorld>
+                </server>
+                <backends>
+                    <backend>
+                        <helloWorld>first</helloWorld>
+                        <port>8081</port>
+                    </backend>
+                    <backend helloWorld="second" port="8082"/>
+                </backends>
+                <names>
+                    <name>a</name>
+                    <name><![CDATA[<b>]]></name>
+                    <name>c</name>
+                </names>
+            </configuration>
+            """;
+
+    @Test
+    @DisplayName("Get configuration from XML file -> Should return the configuration")
+    void testGetConfiguration() throws IOException {
+        final var tested = createProvider(XML);
+
+        assertEquals(Optional.of("8080"), tested.getConfigurationValue("server.port"));
+        assertEquals(Optional.of("Hello World!"), tested.getConfigurationValue("server.helloWorld"));
+        assertEquals(Optional.of("first"), tested.getConfigurationValue("backends.backend.0.helloWorld"));
+        assertEquals(Optional.of("8082"), tested.getConfigurationValue("backends.backend.1.port"));
+        assertEquals(Optional.of("<b>"), tested.getConfigurationValue("names.name.1"));
+        assertTrue(tested.getConfigurationValue("server")
+                           .isEmpty());
+        assertTrue(tested.getConfigurationValue("configuration.server.port")
+                           .isEmpty());
+    }
+
+    @Test
+    @DisplayName("Get sub values from XML file -> Should return the sub values in order")
+    void testGetSubValues() throws IOException {
+        final var tested = createProvider(XML);
+
+        assertEquals(Optional.of(List.of("0", "1")), tested.getConfigurationSubValues("backends.backend"));
+        assertEquals(Optional.of(List.of("0", "1", "2")), tested.getConfigurationSubValues("names.name"));
+        assertEquals(Optional.of(List.of("helloWorld", "port")), tested.getConfigurationSubValues("server"));
+    }
+
+    @Test
+    @DisplayName("Resolve records from XML file -> Should return the record instances")
+    void testResolveRecords() throws IOException {
+        final var provider = createProvider(XML);
+        final var tested = new ConfigurationPropertyResolver(provider::getConfigurationValue,
+                                                             provider::getConfigurationSubValues);
+
+        assertEquals(new TestRecord("Hello World!", 8080), tested.resolveConfigurationValue("server", TestRecord.class)
+                .orElseThrow());
+        assertEquals(new TestRecord("second", 8082), tested.resolveConfigurationValue("backends.backend.1",
+                                                                                      TestRecord.class)
+                .orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Get single list elements from XML file -> Should only index marked elements")
+    void testSingleListElements() throws IOException {
+        final var tested = createProvider("""
+                <configuration>
+                    <backends>
+                        <backend>a</backend>
+                    </backends>
+                    <hosts>
+                        <host ee-list="true">a</host>
+                    </hosts>
+                    <servers>
+                        <server ee-list="true"><port>8080</port></server>
+                        <server port="8081"/>
+                    </servers>
+                </configuration>
+                """);
+
+        // Single elements without marker are no list elements
+        assertEquals(Optional.of("a"), tested.getConfigurationValue("backends.backend"));
+        assertEquals(Optional.of("a"), tested.getConfigurationValue("hosts.host.0"));
+        assertEquals(Optional.of(List.of("0")), tested.getConfigurationSubValues("hosts.host"));
+        assertEquals(Optional.of("8080"), tested.getConfigurationValue("servers.server.0.port"));
+        assertEquals(Optional.of("8081"), tested.getConfigurationValue("servers.server.1.port"));
+        assertEquals(Optional.of(List.of("0", "1")), tested.getConfigurationSubValues("servers.server"));
+        assertTrue(tested.getConfigurationValue("hosts.host.0.ee-list")
+                           .isEmpty());
+    }
+
+    @Test
+    @DisplayName("Read XML file with an attribute and a child element with the same name -> Should throw an exception")
+    void testAttributeAndChildElementCollision() {
+        final var xml = """
+                <configuration>
+                    <server port="8080"><port>8081</port></server>
+                </configuration>
+                """;
+
+        assertThrows(IOException.class, () -> createProvider(xml));
+    }
+
+    @Test
+    @DisplayName("Read XML file with a DTD -> Should throw an exception")
+    void testDtd() {
+        final var xml = """
+                <?xml version="1.0"?>
+                <!DOCTYPE configuration [<!ENTITY secret SYSTEM "file:///etc/passwd">]>
+                <configuration><value>&secret;</value></configuration>
+                """;
+
+        assertThrows(IOException.class, () -> createProvider(xml));
+    }
+
+    private static XmlFileConfigurationProvider createProvider(String xml) throws IOException {
+        return new XmlFileConfigurationProvider(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+    }
+
+}
@@ -0,0 +1,16 @@
+/*
+ * Copyright (c) 2025 Simon Kerstan
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.simonkerstan.ee.core.configuration.types;
+
+import java.util.Map;
+
+/**
+ * Test record with a map component without string keys (not supported).
+ *
+ * @param ports The ports by number
+ */
+public record TestIntegerKeyRecord(Map<Integer, String> ports) {
+}
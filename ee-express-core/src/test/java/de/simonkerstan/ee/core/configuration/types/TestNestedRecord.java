@@ -0,0 +1,20 @@
+/*
+ * Copyright (c) 2025 Simon Kerstan
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.simonkerstan.ee.core.configuration.types;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Test record with nested records, lists and maps for testing the configuration property resolver.
+ *
+ * @param name     The name
+ * @param server   Nested record
+ * @param backends List of records
+ * @param limits   Map of integers
+ */
+public record TestNestedRecord(String name, TestRecord server, List<TestRecord> backends, Map<String, Integer> limits) {
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2025 Simon Kerstan
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.simonkerstan.ee.core.di;
+
+import de.simonkerstan.ee.core.di.graph.test.SingletonA;
+import de.simonkerstan.ee.core.di.graph.test.SingletonB;
+import de.simonkerstan.ee.core.di.graph.test.TestSingletons1;
+import de.simonkerstan.ee.core.di.graph.test.TestSingletons2;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Constructor;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DependencyInjectionHookUnitTest {
+
+    @Test
+    @DisplayName("Prune unreachable beans -> Should only create the root beans and their dependencies")
+    void testPruneUnreachableBeans() throws NoSuchMethodException {
+        final var tested = new DependencyInjectionHook();
+        tested.setPruneUnreachableBeans(true);
+        addInjectConstructor(tested, SingletonA.class.getConstructor());
+        addInjectConstructor(tested, SingletonB.class.getConstructor());
+        addInjectConstructor(tested, TestSingletons1.class.getConstructor(SingletonA.class, SingletonB.class));
+        addInjectConstructor(tested, TestSingletons2.class.getConstructor(SingletonA.class, SingletonB.class));
+        tested.addRootType(TestSingletons1.class);
+
+        tested.postProcess();
+        assertEquals(Set.of(SingletonA.class, SingletonB.class, TestSingletons1.class), tested.getBeans()
+                .keySet());
+        assertTrue(tested.getLazyBeans()
+                           .isEmpty());
+        assertNull(tested.getBean(TestSingletons2.class));
+    }
+
+    @Test
+    @DisplayName("Do not prune unreachable beans -> Should create all beans")
+    void testNoPruning() throws NoSuchMethodException {
+        final var tested = new DependencyInjectionHook();
+        addInjectConstructor(tested, SingletonA.class.getConstructor());
+        addInjectConstructor(tested, SingletonB.class.getConstructor());
+        addInjectConstructor(tested, TestSingletons2.class.getConstructor(SingletonA.class, SingletonB.class));
+        tested.addRootType(SingletonA.class);
+
+        tested.postProcess();
+        assertEquals(Set.of(SingletonA.class, SingletonB.class, TestSingletons2.class), tested.getBeans()
+                .keySet());
+    }
+
+    private static void addInjectConstructor(DependencyInjectionHook hook, Constructor<?> constructor) {
+        hook.processConstructor(constructor, Inject.class, constructor.getAnnotation(Inject.class));
+    }
+
+}
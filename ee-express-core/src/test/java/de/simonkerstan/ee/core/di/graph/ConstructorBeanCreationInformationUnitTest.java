@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2025 Simon Kerstan
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.simonkerstan.ee.core.di.graph;
+
+import de.simonkerstan.ee.core.configuration.Configuration;
+import de.simonkerstan.ee.core.di.graph.test.ConfiguredBean;
+import de.simonkerstan.ee.core.di.graph.test.FailingBean;
+import de.simonkerstan.ee.core.di.graph.test.SingletonA;
+import de.simonkerstan.ee.core.di.graph.test.SingletonB;
+import de.simonkerstan.ee.core.di.graph.test.TestService;
+import de.simonkerstan.ee.core.di.graph.test.TestSingletons1;
+import de.simonkerstan.ee.core.exceptions.BeanInstantiationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConstructorBeanCreationInformationUnitTest {
+
+    @Test
+    @DisplayName("Create a non-singleton bean twice -> Should create two beans with the given parameters")
+    void testNonSingletonBean() throws NoSuchMethodException {
+        final var tested = new ConstructorBeanCreationInformation(
+                TestSingletons1.class.getConstructor(SingletonA.class, SingletonB.class), false);
+        final var singletonA = new SingletonA();
+        final var singletonB = new SingletonB();
+
+        final var first = (TestSingletons1) tested.createBean(singletonA, singletonB);
+        final var second = (TestSingletons1) tested.createBean(singletonA, singletonB);
+        assertNotSame(first, second);
+        assertSame(singletonA, first.getSingletonA());
+        assertSame(singletonB, first.getSingletonB());
+    }
+
+    @Test
+    @DisplayName("Create a singleton bean twice -> Should create the bean only once")
+    void testSingletonBean() throws NoSuchMethodException {
+        final var tested = new ConstructorBeanCreationInformation(SingletonA.class.getConstructor(), true);
+
+        assertSame(tested.createBean(), tested.createBean());
+    }
+
+    @Test
+    @DisplayName("Create a non-singleton bean with wrong parameters -> Should throw an exception")
+    void testWrongParameters() throws NoSuchMethodException {
+        final var tested = new ConstructorBeanCreationInformation(
+                TestSingletons1.class.getConstructor(SingletonA.class, SingletonB.class), false);
+
+        assertThrows(BeanInstantiationException.class, () -> tested.createBean(new SingletonB(), new SingletonA()));
+        assertThrows(BeanInstantiationException.class, () -> tested.createBean(new SingletonA()));
+    }
+
+    @Test
+    @DisplayName("Create a bean with a failing constructor -> Should throw an exception with the constructor exception")
+    void testFailingConstructor() throws NoSuchMethodException {
+        final var singleton = new ConstructorBeanCreationInformation(FailingBean.class.getConstructor(), true);
+        final var nonSingleton = new ConstructorBeanCreationInformation(FailingBean.class.getConstructor(), false);
+
+        final var singletonException = assertThrows(BeanInstantiationException.class, singleton::createBean);
+        assertEquals("Bean cannot be created", singletonException.getCause()
+                .getMessage());
+        final var nonSingletonException = assertThrows(BeanInstantiationException.class, nonSingleton::createBean);
+        assertEquals("Bean cannot be created", nonSingletonException.getCause()
+                .getMessage());
+    }
+
+    @Test
+    @DisplayName("Create information of a constructor with configuration properties -> Should depend on the " +
+            "configuration for these parameters")
+    void testConfigurationInjectionPoints() {
+        final var tested = new ConstructorBeanCreationInformation(ConfiguredBean.class.getConstructors()[0], true);
+
+        final var dependencies = tested.getDependencies();
+        assertEquals(TestService.class, dependencies[0]);
+        assertTrue(tested.getConfigurationInjectionPoint(0)
+                           .isEmpty());
+        assertEquals(Configuration.class, dependencies[1]);
+        assertEquals(new ConfigurationInjectionPoint("test.port", int.class, null),
+                     tested.getConfigurationInjectionPoint(1)
+                             .orElseThrow());
+        assertEquals("5s", tested.getConfigurationInjectionPoint(2)
+                .orElseThrow()
+                .defaultValue());
+        assertFalse(tested.isProviderDependency(1));
+    }
+
+}
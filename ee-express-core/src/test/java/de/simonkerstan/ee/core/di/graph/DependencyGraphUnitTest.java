@@ -5,11 +5,29 @@
 
 package de.simonkerstan.ee.core.di.graph;
 
+import de.simonkerstan.ee.core.configuration.Configuration;
+import de.simonkerstan.ee.core.configuration.DefaultConfiguration;
+import de.simonkerstan.ee.core.configuration.PropertiesFileConfigurationProvider;
+import de.simonkerstan.ee.core.configuration.types.TestRecord;
 import de.simonkerstan.ee.core.di.graph.test.*;
+import de.simonkerstan.ee.core.exceptions.BeanInstantiationException;
+import de.simonkerstan.ee.core.test6.ServiceA;
+import de.simonkerstan.ee.core.test6.ServiceB;
+import jakarta.inject.Provider;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
 
 class DependencyGraphUnitTest {
 
@@ -83,6 +101,168 @@ class DependencyGraphUnitTest {
         assertSame(testSingletons1.getSingletonB(), testSingletons2.getSingletonB());
     }
 
+    @Test
+    @DisplayName("Instantiate singleton beans in parallel -> Should instantiate all singleton beans only once")
+    void testParallelSingletonBeans() throws NoSuchMethodException {
+        final var tested = new DependencyGraph();
+
+        // Add beans (the singleton information is shared by the class and its interface)
+        tested.addBean(0, SingletonA.class,
+                       new ConstructorBeanCreationInformation(SingletonA.class.getConstructor(), true));
+        tested.addBean(0, SingletonB.class,
+                       new ConstructorBeanCreationInformation(SingletonB.class.getConstructor(), true));
+        tested.addBean(0, TestSingletons1.class, new ConstructorBeanCreationInformation(
+                TestSingletons1.class.getConstructor(SingletonA.class, SingletonB.class), true));
+        tested.addBean(0, TestSingletons2.class, new ConstructorBeanCreationInformation(
+                TestSingletons2.class.getConstructor(SingletonA.class, SingletonB.class), true));
+        tested.addBean(0, Bean100.class, new ConstructorBeanCreationInformation(Bean100.class.getConstructor(), true));
+
+        // Instantiate the beans
+        final var executor = Executors.newFixedThreadPool(4);
+        try {
+            final var result = tested.instantiateBeans(executor);
+            final TestSingletons1 testSingletons1 = (TestSingletons1) result.get(TestSingletons1.class);
+            final TestSingletons2 testSingletons2 = (TestSingletons2) result.get(TestSingletons2.class);
+            assertSame(result.get(SingletonA.class), testSingletons1.getSingletonA());
+            assertSame(testSingletons1.getSingletonA(), testSingletons2.getSingletonA());
+            assertSame(testSingletons1.getSingletonB(), testSingletons2.getSingletonB());
+            assertSame(result.get(Bean100.class), result.get(Runnable.class));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Instantiate beans in parallel and one bean fails -> Should throw the exception of the failed bean")
+    void testParallelFailingBean() throws NoSuchMethodException {
+        final var tested = new DependencyGraph();
+
+        // Add beans
+        final var failingBean = mock(BeanCreationInformation.class);
+        final var exception = new BeanInstantiationException("Cannot create bean");
+        when(failingBean.getDependencies()).thenReturn(new Class<?>[0]);
+        when(failingBean.createBean()).thenThrow(exception);
+        tested.addBean(0, SingletonA.class,
+                       new ConstructorBeanCreationInformation(SingletonA.class.getConstructor(), true));
+        tested.addBean(0, SingletonB.class, failingBean);
+
+        // Instantiate the beans
+        final var executor = Executors.newFixedThreadPool(2);
+        try {
+            assertSame(exception, assertThrows(BeanInstantiationException.class,
+                                               () -> tested.instantiateBeans(executor)));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Instantiate lazy beans -> Should only instantiate lazy beans required by other beans at once")
+    void testLazyBeans() throws NoSuchMethodException {
+        final var tested = new DependencyGraph();
+
+        // Add beans (SingletonA is required by the non-lazy bean, TestSingletons2 is not required at all)
+        final var lazySingletonB = spy(new ConstructorBeanCreationInformation(SingletonB.class.getConstructor(), true));
+        tested.addBean(0, SingletonA.class,
+                       new ConstructorBeanCreationInformation(SingletonA.class.getConstructor(), true), true);
+        tested.addBean(0, SingletonB.class, lazySingletonB, true);
+        tested.addBean(0, TestSingletons1.class, new ConstructorBeanCreationInformation(
+                TestSingletons1.class.getConstructor(SingletonA.class, SingletonB.class), true));
+        tested.addBean(0, TestSingletons2.class, new ConstructorBeanCreationInformation(
+                TestSingletons2.class.getConstructor(SingletonA.class, SingletonB.class), true), true);
+
+        // Instantiate the beans
+        final var result = tested.instantiateBeans();
+        assertEquals(Set.of(SingletonA.class, SingletonB.class, TestSingletons1.class), result.keySet());
+        assertEquals(Set.of(TestSingletons2.class), tested.getLazyBeans()
+                .keySet());
+
+        // Look up the lazy bean (only created once with the already instantiated dependencies)
+        final var lazyBean = tested.getLazyBeans()
+                .get(TestSingletons2.class);
+        final var testSingletons2 = (TestSingletons2) lazyBean.get();
+        assertSame(testSingletons2, lazyBean.get());
+        assertSame(result.get(SingletonA.class), testSingletons2.getSingletonA());
+        assertSame(result.get(SingletonB.class), testSingletons2.getSingletonB());
+        verify(lazySingletonB, times(1)).createBean();
+    }
+
+    @Test
+    @DisplayName("Look up a lazy bean with a lazy dependency -> Should create the dependency together with the bean")
+    void testLazyDependency() throws NoSuchMethodException {
+        final var tested = new DependencyGraph();
+
+        // Add beans
+        final var lazySingletonA = spy(new ConstructorBeanCreationInformation(SingletonA.class.getConstructor(), true));
+        tested.addBean(0, SingletonA.class, lazySingletonA, true);
+        tested.addBean(0, SingletonB.class,
+                       new ConstructorBeanCreationInformation(SingletonB.class.getConstructor(), true));
+        tested.addBean(0, TestSingletons1.class, new ConstructorBeanCreationInformation(
+                TestSingletons1.class.getConstructor(SingletonA.class, SingletonB.class), true), true);
+
+        // Instantiate the beans
+        final var result = tested.instantiateBeans();
+        assertEquals(Set.of(SingletonB.class), result.keySet());
+        verify(lazySingletonA, never()).createBean();
+
+        // Look up the lazy bean
+        final var testSingletons1 = (TestSingletons1) tested.getLazyBeans()
+                .get(TestSingletons1.class)
+                .get();
+        assertSame(tested.getLazyBeans()
+                           .get(SingletonA.class)
+                           .get(), testSingletons1.getSingletonA());
+        verify(lazySingletonA, times(1)).createBean();
+    }
+
+    @Test
+    @DisplayName("Inject providers with a cycle over the provider -> Should instantiate the beans and resolve the " +
+            "providers on demand")
+    void testProviders() throws NoSuchMethodException {
+        final var tested = new DependencyGraph();
+
+        // Add beans (TestService is no singleton, ProviderB is only required via a provider)
+        tested.addBean(0, ProviderA.class, new ConstructorBeanCreationInformation(
+                ProviderA.class.getConstructor(Provider.class, Provider.class), true));
+        tested.addBean(0, ProviderB.class, new ConstructorBeanCreationInformation(
+                ProviderB.class.getConstructor(ProviderA.class), true), true);
+        tested.addBean(0, TestService.class,
+                       new ConstructorBeanCreationInformation(TestService.class.getConstructor(), false), true);
+
+        // Instantiate the beans
+        final var result = tested.instantiateBeans();
+        assertEquals(Set.of(ProviderA.class), result.keySet());
+        assertTrue(tested.getUnreachableTypes()
+                           .isEmpty());
+
+        // Resolve the providers
+        final var providerA = (ProviderA) result.get(ProviderA.class);
+        assertSame(providerA, providerA.getProviderB()
+                .get()
+                .getProviderA());
+        assertSame(providerA.getProviderB()
+                           .get(), providerA.getProviderB()
+                           .get());
+        assertNotSame(providerA.getTestServiceProvider()
+                              .get(), providerA.getTestServiceProvider()
+                              .get());
+    }
+
+    @Test
+    @DisplayName("Inject a provider of a missing bean -> Should throw an exception")
+    void testMissingProviderBean() throws NoSuchMethodException {
+        final var tested = new DependencyGraph();
+
+        // Add beans (TestService is missing)
+        tested.addBean(0, ProviderA.class, new ConstructorBeanCreationInformation(
+                ProviderA.class.getConstructor(Provider.class, Provider.class), true));
+        tested.addBean(0, ProviderB.class, new ConstructorBeanCreationInformation(
+                ProviderB.class.getConstructor(ProviderA.class), true));
+
+        // Instantiate the beans
+        assertThrows(BeanInstantiationException.class, tested::instantiateBeans);
+    }
+
     @Test
     @DisplayName("Add same bean types with different priorities -> Should instantiate the highest priority beans")
     void testPriority() throws NoSuchMethodException {
@@ -103,4 +283,88 @@ class DependencyGraphUnitTest {
         assertSame(bean50User.getBean50(), bean50);
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Instantiate beans with a cyclic dependency -> Should throw an exception with the cycle path")
+    void testCyclicDependency() throws NoSuchMethodException {
+        final var tested = new DependencyGraph();
+
+        // Add beans (SingletonA does not belong to the cycle)
+        tested.addBean(0, SingletonA.class,
+                       new ConstructorBeanCreationInformation(SingletonA.class.getConstructor(), true));
+        tested.addBean(0, ServiceA.class,
+                       new ConstructorBeanCreationInformation(ServiceA.class.getConstructor(ServiceB.class), true));
+        tested.addBean(0, ServiceB.class,
+                       new ConstructorBeanCreationInformation(ServiceB.class.getConstructor(ServiceA.class), true));
+
+        // Instantiate the beans
+        final var exception = assertThrows(BeanInstantiationException.class, tested::instantiateBeans);
+        final var serviceA = ServiceA.class.getName();
+        final var serviceB = ServiceB.class.getName();
+        assertTrue(Set.of("Cyclic dependency detected: " + serviceA + " -> " + serviceB + " -> " + serviceA,
+                          "Cyclic dependency detected: " + serviceB + " -> " + serviceA + " -> " + serviceB)
+                           .contains(exception.getMessage()));
+    }
+
+    @Test
+    @DisplayName("Instantiate a bean with configuration properties -> Should inject the converted values and defaults")
+    void testConfigurationProperties() throws NoSuchMethodException, IOException {
+        final var tested = new DependencyGraph();
+        final var configuration = createConfiguration("""
+                test.port=8080
+                test.server.helloWorld=Hello
+                test.server.port=9090
+                test.hosts.0=a
+                test.hosts.1=b
+                """);
+
+        // Add beans (the configuration is a bean like in the core module)
+        tested.addBean(Integer.MAX_VALUE, Configuration.class, new ObjectBeanCreationInformation(configuration));
+        tested.addBean(0, TestService.class,
+                       new ConstructorBeanCreationInformation(TestService.class.getConstructor(), true));
+        tested.addBean(0, ConfiguredBean.class, new ConstructorBeanCreationInformation(
+                ConfiguredBean.class.getConstructors()[0], false), true);
+
+        // Instantiate the beans and look up the lazy bean
+        tested.instantiateBeans();
+        final var bean = (ConfiguredBean) tested.getLazyBeans()
+                .get(ConfiguredBean.class)
+                .get();
+        assertNotNull(bean.getTestService());
+        assertEquals(8080, bean.getPort());
+        assertEquals(Duration.ofSeconds(5), bean.getTimeout());
+        assertEquals(new TestRecord("Hello", 9090), bean.getServer());
+        assertEquals(List.of("a", "b"), bean.getHosts());
+        assertEquals(Map.of(), bean.getLimits());
+    }
+
+    @Test
+    @DisplayName("Instantiate a lazy bean with a missing configuration property -> Should throw an exception at once")
+    void testMissingConfigurationProperty() throws NoSuchMethodException, IOException {
+        final var tested = new DependencyGraph();
+
+        // Add beans
+        tested.addBean(Integer.MAX_VALUE, Configuration.class,
+                       new ObjectBeanCreationInformation(createConfiguration("")));
+        // The same information for two types (like a bean with multiple provided types)
+        final var beanCreationInformation = new ConstructorBeanCreationInformation(
+                MissingConfiguredBean.class.getConstructor(String.class), true);
+        tested.addBean(0, MissingConfiguredBean.class, beanCreationInformation, true);
+        tested.addBean(0, Object.class, beanCreationInformation, true);
+
+        // Instantiate the beans (the missing property is reported once)
+        final var exception = assertThrows(BeanInstantiationException.class, tested::instantiateBeans);
+        assertTrue(Set.of("Cannot instantiate beans due to missing configuration properties [test.missing ("
+                                  + MissingConfiguredBean.class.getName() + ")]",
+                          "Cannot instantiate beans due to missing configuration properties [test.missing ("
+                                  + Object.class.getName() + ")]")
+                           .contains(exception.getMessage()));
+    }
+
+    private static Configuration createConfiguration(String properties) throws IOException {
+        final var configuration = new DefaultConfiguration(new String[0]);
+        configuration.addConfigurationProvider(new PropertiesFileConfigurationProvider(
+                new ByteArrayInputStream(properties.getBytes(StandardCharsets.UTF_8))));
+        return configuration;
+    }
+
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2025 Simon Kerstan
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.simonkerstan.ee.core.di.graph.test;
+
+import de.simonkerstan.ee.core.annotations.ConfigProperty;
+import de.simonkerstan.ee.core.configuration.types.TestRecord;
+import jakarta.inject.Inject;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+public class ConfiguredBean {
+
+    private final TestService testService;
+    private final int port;
+    private final Duration timeout;
+    private final TestRecord server;
+    private final List<String> hosts;
+    private final Map<String, Integer> limits;
+
+    @Inject
+    public ConfiguredBean(TestService testService, @ConfigProperty("test.port") int port,
+                          @ConfigProperty(value = "test.timeout", defaultValue = "5s") Duration timeout,
+                          @ConfigProperty("test.server") TestRecord server,
+                          @ConfigProperty("test.hosts") List<String> hosts,
+                          @ConfigProperty(value = "test.limits", defaultValue = "") Map<String, Integer> limits) {
+        this.testService = testService;
+        this.port = port;
+        this.timeout = timeout;
+        this.server = server;
+        this.hosts = hosts;
+        this.limits = limits;
+    }
+
+}
@@ -0,0 +1,20 @@
+/*
+ * Copyright (c) 2025 Simon Kerstan
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.simonkerstan.ee.core.di.graph.test;
+
+import jakarta.inject.Inject;
+
+/**
+ * Test class whose constructor always fails with a checked exception.
+ */
+public class FailingBean {
+
+    @Inject
+    public FailingBean() throws Exception {
+        throw new Exception("Bean cannot be created");
+    }
+
+}
@@ -0,0 +1,17 @@
+/*
+ * Copyright (c) 2025 Simon Kerstan
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.simonkerstan.ee.core.di.graph.test;
+
+import de.simonkerstan.ee.core.annotations.ConfigProperty;
+import jakarta.inject.Inject;
+
+public class MissingConfiguredBean {
+
+    @Inject
+    public MissingConfiguredBean(@ConfigProperty("test.missing") String missing) {
+    }
+
+}
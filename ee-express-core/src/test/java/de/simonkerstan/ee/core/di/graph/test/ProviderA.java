@@ -0,0 +1,27 @@
+/*
+ * Copyright (c) 2025 Simon Kerstan
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.simonkerstan.ee.core.di.graph.test;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Provider;
+import lombok.Getter;
+
+/**
+ * Test class depending on {@link ProviderB} via a provider (which depends on this class directly).
+ */
+@Getter
+public class ProviderA {
+
+    private final Provider<ProviderB> providerB;
+    private final Provider<TestService> testServiceProvider;
+
+    @Inject
+    public ProviderA(Provider<ProviderB> providerB, Provider<TestService> testServiceProvider) {
+        this.providerB = providerB;
+        this.testServiceProvider = testServiceProvider;
+    }
+
+}
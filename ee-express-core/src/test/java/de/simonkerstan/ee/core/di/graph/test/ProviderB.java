@@ -0,0 +1,24 @@
+/*
+ * Copyright (c) 2025 Simon Kerstan
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.simonkerstan.ee.core.di.graph.test;
+
+import jakarta.inject.Inject;
+import lombok.Getter;
+
+/**
+ * Test class depending on {@link ProviderA} directly.
+ */
+@Getter
+public class ProviderB {
+
+    private final ProviderA providerA;
+
+    @Inject
+    public ProviderB(ProviderA providerA) {
+        this.providerA = providerA;
+    }
+
+}
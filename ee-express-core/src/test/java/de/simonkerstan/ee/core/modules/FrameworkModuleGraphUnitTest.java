@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2025 Simon Kerstan
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.simonkerstan.ee.core.modules;
+
+import de.simonkerstan.ee.core.modules.test.AfterModule;
+import de.simonkerstan.ee.core.modules.test.TestModule;
+import de.simonkerstan.ee.core.modules.test.TestModule2;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FrameworkModuleGraphUnitTest {
+
+    private final TestModule testModule = new TestModule();
+    private final TestModule2 testModule2 = new TestModule2();
+    private final AfterModule afterModule = new AfterModule();
+
+    @Test
+    @DisplayName("Initialize modules sequentially -> Should initialize every module after its dependencies")
+    void testSequentialInitialization() {
+        final var tested = this.createGraph(Set.of(AfterModule.class.getName()), Set.of(), Set.of());
+
+        final List<FrameworkModule> initializedModules = new ArrayList<>();
+        tested.initialize(initializedModules::add, null);
+        assertEquals(List.of(this.testModule, this.testModule2, this.afterModule), tested.getModules());
+        assertEquals(List.of(this.testModule2, this.afterModule, this.testModule), initializedModules);
+        assertEquals(initializedModules, tested.getInitializationOrder());
+    }
+
+    @Test
+    @DisplayName("Initialize modules concurrently -> Should initialize independent modules at the same time and " +
+            "dependent modules afterward")
+    void testParallelInitialization() throws InterruptedException {
+        final var tested = this.createGraph(Set.of(TestModule2.class.getName(), AfterModule.class.getName()),
+                                            Set.of(), Set.of());
+        final var independentModules = new CountDownLatch(2);
+        final Set<FrameworkModule> initializedModules = ConcurrentHashMap.newKeySet();
+
+        final var executor = Executors.newFixedThreadPool(2);
+        try {
+            tested.initialize(module -> {
+                if (module == this.testModule) {
+                    // Both dependencies must be initialized before
+                    assertEquals(Set.of(this.testModule2, this.afterModule), initializedModules);
+                } else {
+                    // Wait for the other independent module (only possible if both are initialized concurrently)
+                    independentModules.countDown();
+                    try {
+                        assertTrue(independentModules.await(10, TimeUnit.SECONDS));
+                    } catch (InterruptedException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+                initializedModules.add(module);
+            }, executor);
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(Set.of(this.testModule, this.testModule2, this.afterModule), initializedModules);
+    }
+
+    @Test
+    @DisplayName("Initialize modules concurrently with a failing module -> Should throw the exception and not " +
+            "initialize dependent modules")
+    void testFailingParallelInitialization() {
+        final var tested = this.createGraph(Set.of(AfterModule.class.getName()), Set.of(), Set.of());
+        final Set<FrameworkModule> initializedModules = ConcurrentHashMap.newKeySet();
+
+        final var executor = Executors.newFixedThreadPool(2);
+        try {
+            final var exception = assertThrows(IllegalArgumentException.class, () -> tested.initialize(module -> {
+                if (module == this.afterModule) {
+                    throw new IllegalArgumentException("Test");
+                }
+                initializedModules.add(module);
+            }, executor));
+            assertEquals("Test", exception.getMessage());
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(Set.of(this.testModule2), initializedModules);
+    }
+
+    @Test
+    @DisplayName("Create a graph with cyclic module dependencies -> Should throw an exception")
+    void testCyclicDependency() {
+        assertThrows(IllegalStateException.class, () -> this.createGraph(Set.of(AfterModule.class.getName()), Set.of(),
+                                                                         Set.of(TestModule.class.getName())));
+    }
+
+    private FrameworkModuleGraph createGraph(Set<String> testModuleDependencies, Set<String> testModule2Dependencies,
+                                             Set<String> afterModuleDependencies) {
+        final LinkedHashMap<FrameworkModule, Set<String>> moduleDependencies = new LinkedHashMap<>();
+        moduleDependencies.put(this.testModule, testModuleDependencies);
+        moduleDependencies.put(this.testModule2, testModule2Dependencies);
+        moduleDependencies.put(this.afterModule, afterModuleDependencies);
+        return new FrameworkModuleGraph(moduleDependencies);
+    }
+
+}
@@ -32,4 +32,17 @@ class FrameworkModuleLoaderUnitTest {
         assertSame(AfterModule.class, afterModule.getClass());
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Load the module graph -> Should initialize modules without declared dependencies in priority order")
+    void testLoadModuleGraph() {
+        final var moduleGraph = FrameworkModuleLoader.loadFrameworkModuleGraph(
+                ClasspathResolver.getWrapperForFullClasspath());
+
+        // The core module declares no dependencies, the test modules depend on all modules loaded before
+        assertEquals(moduleGraph.getModules(), moduleGraph.getInitializationOrder());
+        assertSame(CoreModule.class, moduleGraph.getInitializationOrder()
+                .get(0)
+                .getClass());
+    }
+
+}
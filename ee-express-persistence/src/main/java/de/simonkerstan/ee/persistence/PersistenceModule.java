@@ -38,8 +38,6 @@ public class PersistenceModule implements FrameworkModule {
     @Override
     public void init(Configuration configuration, ClasspathItem classpathItem,
                      BeanInstanceProvider beanInstanceProvider) {
-        final var validatorFactory = beanInstanceProvider.getBeanInstance(ValidatorFactory.class)
-                .orElseThrow();
         try {
             // Get the default datasource configuration
             final var defaultDatasourceType = configuration.getRequiredPropertyValue("persistence.source.default.type",
@@ -48,6 +46,8 @@ public class PersistenceModule implements FrameworkModule {
                 // Initialize JPA for default datasource
                 final var defaultDatasource = configuration.getRequiredPropertyValue("persistence.source.default",
                                                                                      JpaDatasourceConfiguration.class);
+                final var validatorFactory = beanInstanceProvider.getBeanInstance(ValidatorFactory.class)
+                        .orElseThrow();
                 final var initResult = HibernateInitializer.init(defaultDatasource, validatorFactory,
                                                                  this.entityClassHook.getEntities());
                 this.entityManagerFactory = initResult.entityManagerFactory();
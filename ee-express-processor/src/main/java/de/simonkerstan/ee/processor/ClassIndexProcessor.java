@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2025 Simon Kerstan
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.simonkerstan.ee.processor;
+
+import de.simonkerstan.ee.core.clazz.ClassIndexFormat;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Annotation processor writing the class index of EE Express ({@value ClassIndexFormat#INDEX_PATH}, see
+ * {@link ClassIndexFormat}). The index contains all classes of the compilation together with the names of their
+ * runtime-visible annotations and the information needed to decide whether a class must be loaded at all. At runtime,
+ * the class scanner reads the index instead of walking all packages and reflecting over all classes.
+ * <p>
+ * All classes are indexed (not only annotated ones) because the dependency injection also needs the interfaces of
+ * classes without any annotation.
+ * <p>
+ * If the class output already contains an index (e.g., after an incremental or partial compilation), the new classes
+ * are merged into it. Previously indexed classes which do not exist anymore are removed.
+ * <p>
+ * FOR INTERNAL USE ONLY. THE API CAN CHANGE AT ANY TIME.
+ */
+@SupportedAnnotationTypes("*")
+public class ClassIndexProcessor extends AbstractProcessor {
+
+    /**
+     * All indexed classes of the compilation. (binary class name -> index line)
+     */
+    private final Map<String, String> indexedClasses = new TreeMap<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            this.writeIndex();
+        } else {
+            ElementFilter.typesIn(roundEnv.getRootElements())
+                    .forEach(this::indexType);
+        }
+
+        // Never claim any annotations (other processors must still see them)
+        return false;
+    }
+
+    /**
+     * Index a type and all its member types.
+     *
+     * @param type Type to be indexed
+     */
+    private void indexType(TypeElement type) {
+        final var elements = this.processingEnv.getElementUtils();
+        final var className = elements.getBinaryName(type)
+                .toString();
+        // All annotations visible via Class#getAnnotations() (including inherited ones)
+        final var classAnnotations = this.runtimeAnnotationNames(elements.getAllAnnotationMirrors(type));
+        final Set<String> constructorAnnotations = new TreeSet<>();
+        final var constructors = ElementFilter.constructorsIn(type.getEnclosedElements());
+        constructors.forEach(constructor -> constructorAnnotations.addAll(
+                this.runtimeAnnotationNames(constructor.getAnnotationMirrors())));
+        final Set<String> methodAnnotations = new TreeSet<>();
+        ElementFilter.methodsIn(type.getEnclosedElements())
+                .forEach(method -> methodAnnotations.addAll(
+                        this.runtimeAnnotationNames(method.getAnnotationMirrors())));
+        // Interfaces have no super class
+        final var superClass = type.getSuperclass();
+        final var superClassName = superClass.getKind() == TypeKind.DECLARED
+                ? elements.getBinaryName((TypeElement) ((DeclaredType) superClass).asElement())
+                .toString() : "";
+        this.indexedClasses.put(className, String.join("\t", ClassIndexFormat.CLASS_LINE, className,
+                                                       String.join(",", classAnnotations),
+                                                       String.join(",", constructorAnnotations),
+                                                       String.join(",", methodAnnotations), superClassName,
+                                                       String.join(",", flags(type, constructors))));
+
+        ElementFilter.typesIn(type.getEnclosedElements())
+                .forEach(this::indexType);
+    }
+
+    /**
+     * Get the binary names of all annotations which are retained at runtime.
+     *
+     * @param annotationMirrors Annotations to be filtered
+     * @return Sorted binary names of the annotation types
+     */
+    private Set<String> runtimeAnnotationNames(Collection<? extends AnnotationMirror> annotationMirrors) {
+        final var elements = this.processingEnv.getElementUtils();
+        final Set<String> names = new TreeSet<>();
+        annotationMirrors.stream()
+                .map(AnnotationMirror::getAnnotationType)
+                .map(DeclaredType::asElement)
+                .filter(element -> element.getKind() == ElementKind.ANNOTATION_TYPE)
+                .filter(ClassIndexProcessor::isRetainedAtRuntime)
+                .forEach(element -> names.add(elements.getBinaryName((TypeElement) element)
+                                                      .toString()));
+        return names;
+    }
+
+    /**
+     * Get the flags of a type (like the access flags of its class file).
+     *
+     * @param type         Type
+     * @param constructors Constructors of the type
+     * @return Flags
+     */
+    private static List<String> flags(TypeElement type, List<ExecutableElement> constructors) {
+        final List<String> flags = new ArrayList<>();
+        if (type.getModifiers()
+                .contains(Modifier.PUBLIC)) {
+            flags.add(ClassIndexFormat.FLAG_PUBLIC);
+        }
+        if (type.getKind()
+                .isInterface()) {
+            flags.add(ClassIndexFormat.FLAG_INTERFACE);
+        }
+        if (type.getKind() == ElementKind.ENUM) {
+            flags.add(ClassIndexFormat.FLAG_ENUM);
+        }
+        final var publicConstructors = constructors.stream()
+                .filter(constructor -> constructor.getModifiers()
+                        .contains(Modifier.PUBLIC))
+                .toList();
+        if (publicConstructors.size() == 1 && publicConstructors.get(0)
+                .getParameters()
+                .isEmpty()) {
+            flags.add(ClassIndexFormat.FLAG_DEFAULT_CONSTRUCTOR);
+        }
+        return flags;
+    }
+
+    private static boolean isRetainedAtRuntime(Element annotationElement) {
+        final var retention = annotationElement.getAnnotation(Retention.class);
+        return retention != null && retention.value() == RetentionPolicy.RUNTIME;
+    }
+
+    /**
+     * Merge the index of a previous compilation into the classes of this compilation. Classes compiled again are
+     * replaced, and classes which cannot be found anymore (deleted source files) are removed.
+     */
+    private void mergePreviousIndex() {
+        final var elements = this.processingEnv.getElementUtils();
+        try {
+            final var file = this.processingEnv.getFiler()
+                    .getResource(StandardLocation.CLASS_OUTPUT, "", ClassIndexFormat.INDEX_PATH);
+            try (final var reader = new BufferedReader(
+                    new InputStreamReader(file.openInputStream(), StandardCharsets.UTF_8))) {
+                if (!ClassIndexFormat.HEADER.equals(reader.readLine())) {
+                    // Index of another format is replaced completely
+                    return;
+                }
+
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    final var columns = line.split("\t", -1);
+                    if (ClassIndexFormat.CLASS_LINE.equals(columns[0]) && !this.indexedClasses.containsKey(columns[1])
+                            && elements.getTypeElement(columns[1].replace('$', '.')) != null) {
+                        this.indexedClasses.put(columns[1], line);
+                    }
+                }
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            // No previous index (e.g., full compilation)
+        }
+    }
+
+    private void writeIndex() {
+        if (this.indexedClasses.isEmpty()) {
+            return;
+        }
+
+        this.mergePreviousIndex();
+        try {
+            final var file = this.processingEnv.getFiler()
+                    .createResource(StandardLocation.CLASS_OUTPUT, "", ClassIndexFormat.INDEX_PATH);
+            try (final var writer = new PrintWriter(
+                    new OutputStreamWriter(file.openOutputStream(), StandardCharsets.UTF_8))) {
+                writer.print(ClassIndexFormat.HEADER);
+                writer.print('\n');
+                this.indexedClasses.values()
+                        .forEach(line -> {
+                            writer.print(line);
+                            writer.print('\n');
+                        });
+            }
+        } catch (IOException e) {
+            this.processingEnv.getMessager()
+                    .printMessage(Diagnostic.Kind.ERROR, "Cannot write EE Express class index: " + e.getMessage());
+        }
+    }
+
+}
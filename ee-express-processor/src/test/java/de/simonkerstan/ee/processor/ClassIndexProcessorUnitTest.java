@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2025 Simon Kerstan
+ * SPDX-License-Identifier: MIT
+ */
+
+package de.simonkerstan.ee.processor;
+
+import de.simonkerstan.ee.core.clazz.ClassIndexFormat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClassIndexProcessorUnitTest {
+
+    private static final String BEAN_LINE = "class\ttest.Bean\ttest.Bean$Marker\tjava.lang.Deprecated\t"
+            + "\tjava.lang.Object\tpublic,default-constructor";
+    private static final String MARKER_LINE = "class\ttest.Bean$Marker\tjava.lang.annotation.Inherited,"
+            + "java.lang.annotation.Retention\t\t\t\tpublic,interface";
+    private static final String SUB_BEAN_LINE = "class\ttest.SubBean\ttest.Bean$Marker\t\t\ttest.Bean\t"
+            + "public,default-constructor";
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    @DisplayName("Compile classes with the processor -> Should write all classes with their runtime annotations")
+    void testIndex() throws IOException {
+        this.writeSource("test/Bean.java", """
+                package test;
+
+                import java.lang.annotation.Inherited;
+                import java.lang.annotation.Retention;
+                import java.lang.annotation.RetentionPolicy;
+
+                @Bean.Marker
+                @SuppressWarnings("unused")
+                public class Bean implements Runnable {
+
+                    @Deprecated
+                    public Bean() {
+                    }
+
+                    @Override
+                    public void run() {
+                    }
+
+                    @Inherited
+                    @Retention(RetentionPolicy.RUNTIME)
+                    public @interface Marker {
+                    }
+
+                }
+                """);
+        this.writeSource("test/SubBean.java", """
+                package test;
+
+                public class SubBean extends Bean {
+                }
+                """);
+
+        final var compiler = ToolProvider.getSystemJavaCompiler();
+        try (final var fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+            final var outputDirectory = Files.createDirectories(this.tempDir.resolve("classes"));
+            final var task = compiler.getTask(null, fileManager, null,
+                                              List.of("-d", outputDirectory.toString(), "-proc:only"), null,
+                                              fileManager.getJavaFileObjects(this.tempDir.resolve("test/Bean.java"),
+                                                                             this.tempDir.resolve("test/SubBean.java")));
+            task.setProcessors(List.of(new ClassIndexProcessor()));
+            assertTrue(task.call());
+
+            final var index = Files.readAllLines(outputDirectory.resolve(ClassIndexFormat.INDEX_PATH),
+                                                 StandardCharsets.UTF_8);
+            assertEquals(List.of("ee-express-index 2", BEAN_LINE, MARKER_LINE, SUB_BEAN_LINE), index);
+        }
+    }
+
+    @Test
+    @DisplayName("Compile only some classes with the processor -> Should merge them into the existing index")
+    void testIncrementalIndex() throws IOException {
+        this.writeSource("test/First.java", """
+                package test;
+
+                public class First {
+                }
+                """);
+        this.writeSource("test/Second.java", """
+                package test;
+
+                public class Second {
+                }
+                """);
+        this.writeSource("test/Third.java", """
+                package test;
+
+                public class Third {
+                }
+                """);
+        final var outputDirectory = Files.createDirectories(this.tempDir.resolve("classes"));
+        assertTrue(this.compile(outputDirectory, "test/First.java", "test/Second.java"));
+
+        // Second class is deleted, third class is compiled (with the previous classes on the classpath)
+        Files.delete(outputDirectory.resolve("test/Second.class"));
+        assertTrue(this.compile(outputDirectory, "test/Third.java"));
+
+        final var index = Files.readAllLines(outputDirectory.resolve(ClassIndexFormat.INDEX_PATH),
+                                             StandardCharsets.UTF_8);
+        assertEquals(List.of("ee-express-index 2", "class\ttest.First\t\t\t\tjava.lang.Object\t"
+                                     + "public,default-constructor",
+                             "class\ttest.Third\t\t\t\tjava.lang.Object\tpublic,default-constructor"), index);
+    }
+
+    private boolean compile(Path outputDirectory, String... sourcePaths) throws IOException {
+        final var compiler = ToolProvider.getSystemJavaCompiler();
+        try (final var fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+            final var sourceFiles = fileManager.getJavaFileObjects(Arrays.stream(sourcePaths)
+                                                                           .map(this.tempDir::resolve)
+                                                                           .toArray(Path[]::new));
+            final var task = compiler.getTask(null, fileManager, null,
+                                              List.of("-d", outputDirectory.toString(), "-classpath",
+                                                      outputDirectory.toString()), null, sourceFiles);
+            task.setProcessors(List.of(new ClassIndexProcessor()));
+            return task.call();
+        }
+    }
+
+    private void writeSource(String path, String source) throws IOException {
+        final var sourceFile = this.tempDir.resolve(path);
+        Files.createDirectories(sourceFile.getParent());
+        Files.writeString(sourceFile, source, StandardCharsets.UTF_8);
+    }
+
+}
@@ -24,7 +24,22 @@ public class EeExpressHk2DependencyBinder extends AbstractBinder {
                 .entrySet()
                 .stream()
                 .filter(JaxRsClassChecker::isNoJaxRsClass)
-                .forEach(beanMapping -> bind(beanMapping.getValue()).to(beanMapping.getKey()));
+                .forEach(beanMapping -> this.bindBean(beanMapping.getKey()));
+        // Register all lazy beans (they are created on the first injection), the instances are looked up in the
+        // application context, so they are shared with all other lookups
+        this.applicationContext.getLazyBeans()
+                .entrySet()
+                .stream()
+                .filter(JaxRsClassChecker::isNoJaxRsClass)
+                .forEach(beanMapping -> this.bindLazyBean(beanMapping.getKey()));
+    }
+
+    private <T> void bindBean(Class<T> type) {
+        bind(this.applicationContext.getBean(type)).to(type);
+    }
+
+    private <T> void bindLazyBean(Class<T> type) {
+        bindFactory(() -> this.applicationContext.getBean(type)).to(type);
     }
 
 }
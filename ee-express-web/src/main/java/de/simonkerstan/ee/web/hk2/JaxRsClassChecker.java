@@ -25,7 +25,7 @@ final class JaxRsClassChecker {
      * @param beanMapping Bean mapping with class to check
      * @return {@code true} if the class is no JAX-RS controller class, {@code false} otherwise.
      */
-    public static boolean isNoJaxRsClass(Map.Entry<Class<?>, Object> beanMapping) {
+    public static boolean isNoJaxRsClass(Map.Entry<Class<?>, ?> beanMapping) {
         final var clazz = beanMapping.getKey();
         final var classAnnotated = Arrays.stream(clazz.getAnnotations())
                 // Class annotated with @Path